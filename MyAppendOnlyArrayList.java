@@ -0,0 +1,209 @@
+package Collections;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.*;
+
+// Lista la care mai multe thread-uri pot adauga deodata, fara lock: fiecare add isi rezerva un loc cu getAndAdd pe contor,
+// apoi scrie elementul in locul lui. Elementele stau in chunk-uri de marime dubla fata de precedentul (16, 32, 64, ...),
+// deci un index se transforma in (chunk, pozitie) doar cu operatii pe biti, iar cand se umple se publica doar un chunk nou
+// (prin CAS), fara sa se copieze vreodata elementele existente.
+// "Publicat" inseamna prefixul de locuri deja scrise fara goluri: size, get, forEach si iteratorul vad doar acest prefix,
+// chiar daca thread-uri mai rapide au scris deja locuri de dupa el.
+// Un singur consumator poate scoate elementele cu drainTo; chunk-urile golite complet se elibereaza.
+// Nu accepta null (null inseamna "loc rezervat dar inca nescris"). Nu se poate sterge sau inlocui element (set / remove).
+// In total, cu tot ce s-a scos prin drainTo, lista poate primi cel mult LIMIT elemente.
+public class MyAppendOnlyArrayList<T> extends AbstractList<T> implements List<T>, RandomAccess {
+
+    // Variabile
+    private static final int FIRST_SHIFT = 4; // primul chunk are 16 locuri
+    private static final int FIRST = 1 << FIRST_SHIFT;
+    private static final int MAX_CHUNKS = 31 - FIRST_SHIFT; // ultimul chunk are 2^30 locuri
+    static final int LIMIT = (int) ((1L << 31) - FIRST); // suma marimilor tuturor chunk-urilor
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final VarHandle RESERVED;
+    private static final VarHandle PUBLISHED;
+    static {
+        try {
+            MethodHandles.Lookup l = MethodHandles.lookup();
+            RESERVED = l.findVarHandle(MyAppendOnlyArrayList.class, "reserved", long.class);
+            PUBLISHED = l.findVarHandle(MyAppendOnlyArrayList.class, "published", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final AtomicReferenceArray<Object[]> chunks = new AtomicReferenceArray<>(MAX_CHUNKS);
+    private volatile long reserved; // locuri rezervate (long ca sa nu se intoarca la negativ dupa LIMIT)
+    private volatile int published; // toate locurile < published sunt scrise; poate ramane in urma, se recupereaza in advance()
+    private volatile int head; // primul element nescos; schimbat doar de drainTo
+
+    // Constructore
+    MyAppendOnlyArrayList() {
+    }
+
+    MyAppendOnlyArrayList(Collection<? extends T> c) {
+        addAll(c);
+    }
+
+    //Metode
+    private static int chunkIndex(int i) { // chunk-ul k incepe la FIRST * (2^k - 1)
+        return 31 - Integer.numberOfLeadingZeros(i + FIRST) - FIRST_SHIFT;
+    }
+
+    private static int offset(int i, int k) {
+        return i + FIRST - (FIRST << k);
+    }
+
+    private Object[] chunk(int k) { // chunk-ul k, alocat daca nu exista; daca doua thread-uri il aloca deodata, ramane cel publicat primul
+        Object[] c = chunks.get(k);
+        if(c == null) {
+            Object[] fresh = new Object[FIRST << k];
+            c = chunks.compareAndExchange(k, null, fresh);
+            if(c == null) c = fresh;
+        }
+        return c;
+    }
+
+    private boolean isWritten(int i) {
+        int k = chunkIndex(i);
+        Object[] c = chunks.get(k);
+        return c != null && SLOT.getAcquire(c, offset(i, k)) != null;
+    }
+
+    public boolean add(T e) {
+        Objects.requireNonNull(e);
+        long r = (long) RESERVED.getAndAdd(this, 1L);
+        if(r >= LIMIT) throw new IllegalStateException("Lista e plina: " + LIMIT + " elemente");
+        int i = (int) r;
+        int k = chunkIndex(i);
+        int off = offset(i, k);
+        if(off == 0 && k + 1 < MAX_CHUNKS) chunk(k + 1); // cine incepe un chunk il pregateste pe urmatorul, ca sa nu se bata mai multi pe alocare
+        SLOT.setRelease(chunk(k), off, e);
+        if(published == i) advance(); // de obicei suntem chiar urmatorul loc, impingem prefixul publicat
+        return true;
+    }
+
+    public boolean addAll(Collection<? extends T> c) { // rezerva toate locurile deodata
+        Object[] arr = c.toArray();
+        if(arr.length == 0) return false;
+        for(Object e : arr) Objects.requireNonNull(e);
+        long r = (long) RESERVED.getAndAdd(this, (long) arr.length);
+        if(r + arr.length > LIMIT) throw new IllegalStateException("Lista e plina: " + LIMIT + " elemente");
+        int i = (int) r, end = i + arr.length, from = 0;
+        while(i < end) { // bucata cu bucata, cate un chunk
+            int k = chunkIndex(i);
+            int off = offset(i, k);
+            int n = Math.min(end - i, (FIRST << k) - off);
+            Object[] chunk = chunk(k);
+            for(int j = 0; j < n; j++) SLOT.setRelease(chunk, off + j, arr[from + j]);
+            i += n;
+            from += n;
+        }
+        if(published == (int) r) advance();
+        return true;
+    }
+
+    private int advance() { // muta published peste locurile scrise de dupa el si il intoarce
+        int p = published;
+        final int limit = (int) Math.min(reserved, LIMIT);
+        int q = p;
+        while(q < limit && isWritten(q)) q++;
+        while(q > p && !PUBLISHED.compareAndSet(this, p, q)) { // alt thread poate l-a mutat deja mai departe
+            p = published;
+        }
+        return Math.max(p, q);
+    }
+
+    public int size() {
+        return advance() - head;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T slot(int i) { // i < published; null doar daca drainTo a eliberat intre timp locul
+        int k = chunkIndex(i);
+        Object[] c = chunks.get(k);
+        Object e = (c == null) ? null : SLOT.getAcquire(c, offset(i, k));
+        if(e == null) throw new ConcurrentModificationException(); // drainTo din alt thread
+        return (T) e;
+    }
+
+    public T get(int index) { // index relativ la primul element nescos
+        final int h = head;
+        int p = published;
+        if(index < 0 || index >= p - h) p = advance(); // prefixul poate fi mai lung decat stie published
+        Objects.checkIndex(index, p - h);
+        return slot(h + index);
+    }
+
+    public void forEach(Consumer<? super T> action) { // elementele publicate in momentul apelului
+        Objects.requireNonNull(action);
+        final int end = advance();
+        for(int i = head; i < end; ) {
+            int k = chunkIndex(i);
+            int off = offset(i, k);
+            int n = Math.min(end - i, (FIRST << k) - off);
+            Object[] c = chunks.get(k);
+            if(c == null) throw new ConcurrentModificationException();
+            for(int j = off; j < off + n; j++) {
+                @SuppressWarnings("unchecked")
+                T e = (T) SLOT.getAcquire(c, j);
+                if(e == null) throw new ConcurrentModificationException();
+                action.accept(e);
+            }
+            i += n;
+        }
+    }
+
+    public Iterator<T> iterator() { // vede elementele publicate la crearea lui
+        final int from = head, end = advance();
+        return new Iterator<T>() {
+            int cursor = from;
+
+            public boolean hasNext() {
+                return cursor < end;
+            }
+
+            public T next() {
+                if(cursor >= end) throw new NoSuchElementException();
+                return slot(cursor++);
+            }
+        };
+    }
+
+    public int drainTo(Collection<? super T> c) { // doar un thread consumator; intoarce cate elemente a mutat
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    public int drainTo(Collection<? super T> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if(c == this) throw new IllegalArgumentException();
+        final int h = head;
+        final int end = (int) Math.min((long) h + Math.max(maxElements, 0), advance());
+        int i = h; // elementele dinainte de i sunt deja in c
+        try {
+            while(i < end) {
+                int k = chunkIndex(i);
+                int off = offset(i, k);
+                int n = Math.min(end - i, (FIRST << k) - off);
+                Object[] chunk = chunks.get(k);
+                for(int j = off; j < off + n; j++, i++) {
+                    @SuppressWarnings("unchecked")
+                    T e = (T) SLOT.getAcquire(chunk, j);
+                    c.add(e); // daca arunca, elementul ramane in lista (slotul nu e golit, head nu trece de el)
+                    SLOT.setRelease(chunk, j, null); // pentru GC
+                }
+                if(off + n == (FIRST << k)) chunks.set(k, null); // chunk golit complet
+            }
+        } finally {
+            head = i; // si daca c.add a aruncat: ce a intrat in c nu mai e in lista, restul ramane pentru urmatorul drainTo
+        }
+        return end - h;
+    }
+}
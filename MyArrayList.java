@@ -1,8 +1,23 @@
 // https://docs.oracle.com/javase/8/docs/api/?java/util/ArrayList.html
 
 package Collections;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.*;
@@ -11,12 +26,19 @@ import java.util.*;
 public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAccess, Cloneable, Serializable{
     
     // Variabile
+    @Serial
+    private static final long serialVersionUID = 1L;
     private static final int DEFAULT_CAPACITY = 10;
     private static final Object[] EMPTY_ELEMENTDATA = {}; // lista goala
     private static final Object[] DEFAULTCAPACITY_EMPTY_ELEMENTDATA = {}; // pentru liste ce nu au elemente
     
-    transient Object[] elementData; // transient -> ?
+    transient Object[] elementData; // transient -> nu se serializeaza automat (ar scrie si capacitatea libera), vezi writeObject
     private int size; // numar elemente in lista
+    private transient HashIndex index; // null daca indexul nu e pornit, vezi enableHashIndex
+    private transient Object[] shared; // array dat unui MyPersistentVector prin toPersistent; daca elementData e inca el, se copiaza inainte de prima scriere in [0, size)
+    private transient MyChangeLog log; // null daca nu se tin schimbarile, vezi enableChangeLog
+    private transient int setCount; // creste la schimbari de elemente care nu trec prin modCount (set, replaceAll pe sublista), vezi writeCount
+    private transient MyArrayPool pool; // null daca lista nu ia array-uri din pool, vezi MyArrayPool
 
     // Constructore
     MyArrayList(int initialCapacity) {
@@ -33,6 +55,11 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
         elementData = DEFAULTCAPACITY_EMPTY_ELEMENTDATA;
     }
 
+    MyArrayList(MyArrayPool pool) { // grow / trimToSize / release iau si dau array-uri prin pool
+        elementData = DEFAULTCAPACITY_EMPTY_ELEMENTDATA;
+        this.pool = Objects.requireNonNull(pool);
+    }
+
     // c - colectia de elemente ce va fi pusa in lista
     MyArrayList(Collection<? extends T> c) {
         Object[] _obj = c.toArray();
@@ -47,12 +74,81 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
         }
     }
 
+    // Pentru MyCopyOnWriteArrayList.mutate: lista de lucru peste un array deja copiat, si inapoi la array
+    static <T> MyArrayList<T> adopt(Object[] a) { // a devine elementData fara copie, cine apeleaza nu mai are voie sa-l atinga
+        MyArrayList<T> list = new MyArrayList<>(0);
+        if(a.length > 0) {
+            list.elementData = a;
+            list.size = a.length;
+        }
+        return list;
+    }
+
+    Object[] detach() { // ia elementele (array de exact size) si lasa lista goala, ca o referinta pastrata sa nu mai poata scrie in array-ul dat
+        final Object[] a = (size == elementData.length) ? elementData : Arrays.copyOf(elementData, size);
+        modCount++;
+        if(a != elementData) recycle(elementData, size);
+        if(log != null) log.remove(0, size);
+        elementData = EMPTY_ELEMENTDATA;
+        size = 0;
+        indexInvalidate();
+        return a;
+    }
+
     //Metode
+    public MyPersistentVector<T> toPersistent() { // O(1): vectorul primeste elementData asa cum e, lista il copiaza doar cand il schimba prima data
+        shared = elementData;
+        return MyPersistentVector.wrap(elementData, size);
+    }
+
+    private Object[] unshare() { // elementData propriu, de apelat inainte de orice scriere sub size (scrierile de dupa size nu le vede vectorul)
+        if(shared != null) {
+            if(elementData == shared) elementData = Arrays.copyOf(elementData, elementData.length);
+            shared = null;
+        }
+        return elementData;
+    }
+
     public void trimToSize() { // Micsoreaza capacitatea alocata listei pana numarul de campuri deja ocupate
         modCount++; //variabila care raspunde de cate ori a fost modificata lista
+        if(pool != null) { // doar pana la clasa din pool: un array de exact size elemente nu s-ar mai putea intoarce in pool
+            trimToPoolClass();
+            return;
+        }
         if(size < elementData.length) {
+            final Object[] old = elementData;
             elementData = (size == 0) ? EMPTY_ELEMENTDATA : Arrays.copyOf(elementData, size);
+            recycle(old, size);
+        }
+    }
+
+    public void release() { // lista ramane goala si array-ul ei se intoarce in pool (daca are pool); lista poate fi folosita in continuare
+        modCount++;
+        final Object[] old = elementData;
+        final int s = size;
+        if(log != null) log.remove(0, s);
+        elementData = (pool != null) ? DEFAULTCAPACITY_EMPTY_ELEMENTDATA : EMPTY_ELEMENTDATA;
+        size = 0;
+        indexInvalidate();
+        recycle(old, s);
+    }
+
+    private void trimToPoolClass() {
+        final Object[] old = elementData;
+        final int s = size;
+        if(s == 0) {
+            elementData = DEFAULTCAPACITY_EMPTY_ELEMENTDATA;
+        } else {
+            if(pool.lengthFor(s) >= old.length) return; // e deja cel mai mic array din pool in care incape
+            Object[] a = pool.take(s);
+            System.arraycopy(old, 0, a, 0, s);
+            elementData = a;
         }
+        recycle(old, s);
+    }
+
+    private void recycle(Object[] old, int used) { // array-ul vechi inapoi in pool, daca nu l-a luat un MyPersistentVector
+        if(pool != null && old != shared && old.length > 0) pool.give(old, used);
     }
 
     //minCapacity - capacitatea minima a listei
@@ -64,6 +160,7 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
     }
 
     private Object[] grow(int minCapacity) {  // cu cat sa creasca lista
+        if(pool != null) return growFromPool(minCapacity);
         int oldCapacity = elementData.length;
         if(oldCapacity > 0 || elementData != DEFAULTCAPACITY_EMPTY_ELEMENTDATA) {
             int newCapacity = MyNewLength(oldCapacity, minCapacity - oldCapacity, oldCapacity >> 1);
@@ -73,13 +170,24 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
         }
     }
 
+    private Object[] growFromPool(int minCapacity) { // aceeasi crestere, dar array-ul nou vine din pool (rotunjit la clasa lui) si cel vechi se intoarce acolo
+        final Object[] old = elementData;
+        int oldCapacity = old.length;
+        int newCapacity = (oldCapacity > 0) ? MyNewLength(oldCapacity, minCapacity - oldCapacity, oldCapacity >> 1) : Math.max(DEFAULT_CAPACITY, minCapacity);
+        Object[] a = pool.take(newCapacity);
+        System.arraycopy(old, 0, a, 0, size);
+        elementData = a;
+        recycle(old, size);
+        return a;
+    }
+
     private Object[] grow() { // creste lista cu un spatiu
         return grow(size + 1);
     }
 
-    int SOFT_MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8; // sa fie
+    static final int SOFT_MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8; // sa fie
 
-    private int MyNewLength(int oldLength, int minGrowth, int prefGrowth) { // pentru grow
+    static int MyNewLength(int oldLength, int minGrowth, int prefGrowth) { // pentru grow
         int prefLength = oldLength + Math.max(minGrowth, prefGrowth);
         if(0 < prefLength && prefLength <= SOFT_MAX_ARRAY_LENGTH) {
             return prefLength;
@@ -88,7 +196,7 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
         }
     }
 
-    private int MyHugeLength(int oldLength, int minGrowth) { // in caz daca lungimea la array nou e pea mare
+    static int MyHugeLength(int oldLength, int minGrowth) { // in caz daca lungimea la array nou e pea mare
         int minLength = oldLength + minGrowth;
         if(minLength < 0) {
             throw new OutOfMemoryError("Dimensiunea array-ului trebuita " + oldLength + " + " + minGrowth + " este prea mare");
@@ -116,6 +224,7 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
     }
 
     int indexOfRange(Object obj, int start, int end) { // primeste pozitia din lista, si inceputul si sfarsitul listei. Cauta elementul in lista (poate pozitia sa fie goala)
+        if(index != null) return index().first(obj, start, end);
         Object[] temp = elementData;
         if(obj == null) { // in caz daca pozitia nu are element
             for(int i = start; i < end; i++) {
@@ -138,6 +247,7 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
     }
 
     int lastIndexOfRange(Object obj, int start, int end) { // tot aceasi ce si IndexOfRange dar parcurge for-ul de la coada
+        if(index != null) return index().last(obj, start, end);
         Object[] temp = elementData;
         if(obj == null) { // in caz daca pozitia nu are element
             for(int i = end - 1; i >= start; i--) {
@@ -159,7 +269,10 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
         try {
             MyArrayList<?> v = (MyArrayList<?>) super.clone(); // face clone de la parinte sau din obiect
             v.elementData = Arrays.copyOf(elementData, size);
+            v.shared = null;
+            if(log != null) v.log = log.fork();
             v.modCount = 0; // resetam numarul de modificari
+            if(index != null) v.index = new HashIndex(); // copia are indexul ei, construit la prima cautare
             return v;
         } catch (CloneNotSupportedException e) {
             throw new InternalError(e);
@@ -178,6 +291,93 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
         return arr;
     }
 
+    // Serializare
+
+    @Serial
+    private void writeObject(ObjectOutputStream s) throws IOException { // scriem doar cele size elemente, fara capacitatea libera
+        final int expectedModCount = modCount;
+        s.defaultWriteObject(); // scrie size
+        final Object[] temp = elementData;
+        for (int i = 0; i < size; i++) {
+            s.writeObject(temp[i]);
+        }
+        checkForComodification(expectedModCount);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException { // alocam exact size locuri
+        s.defaultReadObject(); // citeste size
+        if (size > 0) {
+            Object[] temp = new Object[size];
+            for (int i = 0; i < size; i++) {
+                temp[i] = s.readObject();
+            }
+            elementData = temp;
+        } else if (size == 0) {
+            elementData = EMPTY_ELEMENTDATA;
+        } else {
+            throw new InvalidObjectException("Dimensiunea gresita: " + size);
+        }
+    }
+
+    // Serializare in bloc cu MyElementCodec: size, un flag pentru null-uri, bitset-ul cu null-uri (daca sunt), apoi elementele.
+    // Merge si din writeExternal / readExternal, pentru ca ObjectOutput / ObjectInput sunt DataOutput / DataInput.
+    public void writeTo(DataOutput out, MyElementCodec<? super T> codec) throws IOException {
+        Objects.requireNonNull(codec);
+        final int expectedModCount = modCount;
+        final int s = size;
+        final Object[] temp = elementData;
+        long[] nulls = null; // acelasi fel de bitset ca deathRow din removeIf
+        int nonNull = s;
+        for (int i = 0; i < s; i++) {
+            if (temp[i] == null) {
+                if (nulls == null) nulls = nBits(s);
+                setBit(nulls, i);
+                nonNull--;
+            }
+        }
+        out.writeInt(s);
+        out.writeBoolean(nulls != null);
+        if (nulls == null) {
+            codec.writeAll(out, temp, 0, s); // cazul obisnuit: fara copie
+        } else {
+            for (long word : nulls) out.writeLong(word);
+            Object[] compact = new Object[nonNull];
+            for (int i = 0, w = 0; i < s; i++) {
+                if (temp[i] != null) compact[w++] = temp[i];
+            }
+            codec.writeAll(out, compact, 0, nonNull);
+        }
+        checkForComodification(expectedModCount);
+    }
+
+    public static <T> MyArrayList<T> readFrom(DataInput in, MyElementCodec<? extends T> codec) throws IOException {
+        Objects.requireNonNull(codec);
+        final int s = in.readInt();
+        if (s < 0) {
+            throw new StreamCorruptedException("Dimensiunea gresita: " + s);
+        }
+        final boolean hasNulls = in.readBoolean();
+        MyArrayList<T> list = new MyArrayList<>(s); // exact cat trebuie
+        final Object[] temp = list.elementData;
+        if (!hasNulls) {
+            codec.readAll(in, temp, 0, s);
+        } else {
+            final long[] nulls = nBits(s);
+            int nonNull = s;
+            for (int i = 0; i < nulls.length; i++) {
+                nulls[i] = in.readLong();
+                nonNull -= Long.bitCount(nulls[i]);
+            }
+            codec.readAll(in, temp, 0, nonNull);
+            for (int i = s - 1, r = nonNull - 1; i >= 0; i--) { // intindem elementele de la coada, punand null-urile la locul lor
+                temp[i] = isClear(nulls, i) ? temp[r--] : null;
+            }
+        }
+        list.size = s;
+        return list;
+    }
+
     // Positional Access Operations sau Pentru a accesa elemente din lista
 
     @SuppressWarnings("unchecked")
@@ -217,7 +417,9 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
     public T set(int index, T element) { // inlocuim elementul de pe o pozitie si returnam pozitia asta
         Objects.checkIndex(index, size); // verifica daca index este in range
         T oldValue = elementData(index); // gasim pozitia la element ce schimbam
-        elementData[index] = element; // schimbam elementul cu elementul nou
+        unshare()[index] = element; // schimbam elementul cu elementul nou
+        indexSet(index, oldValue, element);
+        if(log != null) log.set(index, element);
         return oldValue; // returnam pozitia cu elementul inlocuit
     }
 
@@ -225,6 +427,8 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
         if (s == elementData.length) elementData = grow(); // aici si folosim grow() ca sa creasca lista cu un spatiu
         elementData[s] = el;
         size = s + 1;
+        indexAppend(el, s);
+        if(log != null) log.insert(s, el);
     }
 
     private void rangeCheckForAdd(int index) { // veriunea a rangecheck speciala pentru add si addAll
@@ -247,11 +451,12 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
         rangeCheckForAdd(index);
         modCount++;
         final int s = size;
-        Object[] elementData = this.elementData;
-        if(s == elementData.length) elementData = grow(); // POSIBIL AICI SA APARA GRESALA
+        Object[] elementData = (s == this.elementData.length) ? grow() : unshare(); // POSIBIL AICI SA APARA GRESALA
         System.arraycopy(elementData, index, elementData, index + 1, s - index);
         elementData[index] = element;
         size = s + 1;
+        indexInsert(index, element);
+        if(log != null) log.insert(index, element);
     }
 
     public void addFirst(T element) { // adaugam element la inceputul istei
@@ -263,11 +468,12 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
     }
 
     private void fastRemove(Object[] temp, int i) { // functie ajutatoare pentru remove, sterge elementul fara al returna
+        temp = unshare(); // temp e elementData, poate impartit cu un vector
         modCount++;
+        if(log != null) log.remove(i, i + 1);
         final int newSize = size - 1;
-        if(newSize > i) {
-            System.arraycopy(temp, i+1, temp, i, newSize - i); // //se genereaza array nou cu un element mai putin
-        }
+        indexRemove(temp[i], i);
+        if(newSize > i) System.arraycopy(temp, i+1, temp, i, newSize - i); // //se genereaza array nou cu un element mai putin
         temp[size = newSize] = null; // umplem ultimul spatiu cu null
     }
 
@@ -389,6 +595,12 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
     // Ne intoarcem iarasi la metode :)
 
     public boolean remove(Object obj) { // sterge primul element gasit din lista care e asemenea la ce introducem, daca nu este asa element atunci lista nu se schimba. Returneaza true sau false
+        if(index != null) { // cautarea prin index, stergerea ramane aceeasi
+            int i = indexOfRange(obj, 0, size);
+            if(i < 0) return false;
+            fastRemove(elementData, i);
+            return true;
+        }
         final Object[] temp = elementData;
         final int size = this.size;
         int i = 0;
@@ -410,10 +622,16 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
 
     public void clear() { // inlocuim toate spatiio cu null sau curatam lista de toate elemente
         modCount++;
+        if(shared != null) { // nu stergem din array-ul vectorului, luam unul nou de aceeasi capacitate
+            if(elementData == shared) elementData = new Object[elementData.length];
+            shared = null;
+        }
         final Object[] temp = elementData;
+        if(log != null) log.remove(0, size);
         for (int to = size, i = size = 0; i < to; i++) {
             temp[i] = null;
         }
+        indexInvalidate();
     }
 
     public boolean addAll(Collection<? extends T> c) { // adaugam toate elemente din alta lista in lista noastra (la sfarsitul ei si respecta ordinea controlata de iterator)
@@ -426,6 +644,8 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
         if (numNew > elementData.length - s) elementData = grow(s + numNew); // POSIBIL EROARE // adugam atat loc cat este in lista ce am adaugat
         System.arraycopy(arr, 0, elementData, s, numNew); // copiem lista (din pozitia 0 din lista care copiem si punem in lista noastra din ultima pozitie ocupata a ei)
         size = s + numNew; // dimensiunea nou (sau cate elemente sunt acum ocupate)
+        for (int i = 0; i < numNew; i++) indexAppend(arr[i], s + i);
+        if(log != null) log.insert(s, arr, numNew);
         return true;
     }
 
@@ -439,25 +659,68 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
         Object[] elementData = this.elementData;
         final int s = size;
         if(numNew > elementData.length - s) elementData = grow(s + numNew); // POSIBIL EROARE
+        else elementData = unshare();
 
         int numMoved = s - index;
         if(numMoved > 0) System.arraycopy(elementData, index, elementData, index + numNew, numMoved); // motam/miscam(copiem) toate elemente din lista nostra din pozitia din care dorim sa introducem elemente noi, cu atatea pozitii cate elemente vom adauga(sau sunt in lista pe care o adaugam)
         System.arraycopy(arr, 0, elementData, index, numNew); // in pozitii eliberate introducem lista adaugata
         size = s + numNew;
+        indexInsert(index, arr, numNew);
+        if(log != null) log.insert(index, arr, numNew);
         return true;
     }
 
+    // Insereaza values[j] inaintea elementului care acum e pe pozitia indices[j] (indices.length == size inseamna la sfarsit).
+    // indices trebuie sa fie crescatoare (cu repetari: valorile cu acelasi index intra in ordinea din values).
+    // Creste lista o singura data si muta fiecare bucata dintre doua indexuri o singura data, de la coada spre inceput: O(n + k) in loc de O(n * k).
+    public boolean insertAll(int[] indices, T[] values) {
+        final int s = size;
+        checkInsertAll(indices, values, s);
+        final int k = indices.length;
+        modCount++;
+        if(k == 0) return false;
+        Object[] elementData = this.elementData;
+        if(k > elementData.length - s) elementData = grow(s + k);
+        else elementData = unshare();
+
+        int end = s; // bucata [indices[j], end) din lista veche ajunge la [indices[j] + j + 1, end + j + 1)
+        for(int j = k - 1; j >= 0; j--) {
+            int from = indices[j];
+            if(end > from) System.arraycopy(elementData, from, elementData, from + j + 1, end - from);
+            elementData[from + j] = values[j];
+            end = from;
+        }
+        size = s + k;
+        indexInvalidate();
+        if(log != null) {
+            for(int j = 0; j < k; j++) log.insert(indices[j] + j, values[j]); // in ordine crescatoare, fiecare index deja mutat de cele dinainte
+        }
+        return true;
+    }
+
+    private static void checkInsertAll(int[] indices, Object[] values, int size) { // verificam tot inainte sa schimbam ceva
+        if(indices.length != values.length) throw new IllegalArgumentException("indices are " + indices.length + " elemente, values are " + values.length);
+        int prev = 0;
+        for(int index : indices) {
+            if(index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index + ", Dimensiunea: " + size);
+            if(index < prev) throw new IllegalArgumentException("indices nu sunt crescatoare: " + prev + " inainte de " + index);
+            prev = index;
+        }
+    }
+
     protected void removeRange(int fromIndex, int toIndex) { // eliminam toate elemente dintre doua indexuri, apoi miscam toate elemente (ramase in dreapata) spre stanga
         if(fromIndex > toIndex) {
             throw new IndexOutOfBoundsException(outOfBoundsMsg(fromIndex, toIndex));
         }
         modCount++;
-        shiftTailOverGap(elementData, fromIndex, toIndex);
+        if(log != null) log.remove(fromIndex, toIndex);
+        shiftTailOverGap(unshare(), fromIndex, toIndex);
     }
 
     private void shiftTailOverGap(Object[] temp, int fromIndex, int toIndex) { // Metoda ajutatoare pentru removeRange. 
         System.arraycopy(temp, toIndex, temp, fromIndex, size - toIndex); // Copiem toate elemente de dupa ultimul index (pana la care index am dorit sa stergem) si le amplasam la indexul din care stergem
         for(int to = size, i = (size -= toIndex - fromIndex); i < to; i++) temp[i] = null; // Toate elemente dupa ultimul index le facem null
+        indexInvalidate(); // removeRange, batchRemove, removeIf trec toate pe aici
     }
 
     private static String outOfBoundsMsg(int fromIndex, int toIndex) { // mesaj pentru removeRange in caz daca introducem index in afara listei
@@ -472,16 +735,34 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
         return batchRemove(c, true, 0, size);
     }
 
+    static final int BATCH_HASH_THRESHOLD = 32; // de la cate elemente (in lista si in c) merita sa facem HashSet din c
+
+    static Collection<?> fastContains(Collection<?> c, int n) { // c.contains pe o lista e liniar -> n * m. Facem o data un HashSet (m) si cautam in el
+        if(n < BATCH_HASH_THRESHOLD || c.size() < BATCH_HASH_THRESHOLD || !linearEqualsContains(c)) return c;
+        return new HashSet<>(c);
+    }
+
+    static boolean linearEqualsContains(Collection<?> c) { // doar aici stim sigur ca contains e liniar si dupa equals; orice alt c (Set, comparator, index) il lasam cum e
+        Class<?> k = c.getClass(); // clasa exacta: o subclasa poate schimba contains
+        return k == ArrayList.class || k == LinkedList.class || (k == MyArrayList.class && !((MyArrayList<?>) c).isHashIndexed());
+    }
+
     // Aici nu am intales nimic <--- !!! --->
     boolean batchRemove(Collection<?> c, boolean complement, final int from, final int end) { // metoda ajutatoare pentru removeAll si retainAll. Sterge toate elemente din/in afara de colectie specifica
         Objects.requireNonNull(c); // verifica daca referinta e null
-        final Object[] temp = elementData;
+        c = fastContains(c, end - from);
+        if(log != null) { // prin removeIf, ca jurnalul sa primeasca pozitiile sterse
+            final Collection<?> cc = c;
+            return removeIf(e -> cc.contains(e) != complement, from, end);
+        }
+        Object[] temp = elementData;
         int r;
         // Ceva optimizare, pentru ca codul sa incearca sa ruleze numai din punct ce acest poate face schimbari
         for(r = from;; r++) {
             if(r == end) return false;
             if(c.contains(temp[r]) != complement) break;
         }
+        temp = unshare(); // de aici incolo scriem
         int w = r++;
 
         try {
@@ -641,12 +922,32 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
                                                ") > toIndex(" + toIndex + ")");
     }
 
-        public List<T> subList(int fromIndex, int toIndex) { // o sublista din elemente asupra carei pot lucra metode arraylistului si sunt prezente schimbari non-structurale(care nu afecteaza lista si navigarea prin ea)
+        public SubList<T> subList(int fromIndex, int toIndex) { // o sublista din elemente asupra carei pot lucra metode arraylistului si sunt prezente schimbari non-structurale(care nu afecteaza lista si navigarea prin ea)
         subListRangeCheck(fromIndex, toIndex, size);
         return new SubList<>(this, fromIndex, toIndex);
     }
 
-    private static class SubList<T> extends AbstractList<T> implements RandomAccess { // clasa cu sublista
+    int modCount() { // pentru clasele din pachet care nu mostenesc lista (MyListView)
+        return modCount;
+    }
+
+    int writeCount() { // creste la orice schimbare, si la set (modCount nu); pentru cache-urile din MyListView
+        return modCount + setCount;
+    }
+
+    public <R> MyListView<R> mappedView(Function<? super T, ? extends R> mapper) { // vederi lenese, fara copie, vezi MyListView
+        return MyListView.of(this).mappedView(mapper);
+    }
+
+    public MyListView<T> filteredView(Predicate<? super T> filter) {
+        return MyListView.of(this).filteredView(filter);
+    }
+
+    public MyListView<T> slice(int fromIndex, int toIndex, int step) {
+        return MyListView.of(this).slice(fromIndex, toIndex, step);
+    }
+
+    public static class SubList<T> extends AbstractList<T> implements RandomAccess { // clasa cu sublista (publica ca sa se vada sort / parallelSort)
         private final MyArrayList<T> root;
         private final SubList<T> parent;
         private final int offset;
@@ -672,7 +973,9 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
             Objects.checkIndex(index, size);
             checkForComodification();
             T oldValue = root.elementData(offset + index);
-            root.elementData[offset + index] = element;
+            root.unshare()[offset + index] = element;
+            root.indexSet(offset + index, oldValue, element);
+            if(root.log != null) root.log.set(offset + index, element);
             return oldValue;
         }
 
@@ -722,6 +1025,16 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
             return true;
         }
 
+        public boolean insertAll(int[] indices, T[] values) { // indexurile sunt relative la sublista
+            checkInsertAll(indices, values, this.size);
+            checkForComodification();
+            int[] shifted = new int[indices.length];
+            for(int j = 0; j < indices.length; j++) shifted[j] = offset + indices[j];
+            boolean changed = root.insertAll(shifted, values);
+            updateSizeAndModCount(indices.length);
+            return changed;
+        }
+
         public void replaceAll(UnaryOperator<T> operator) {
             root.replaceAllRange(operator, offset, offset + size);
         }
@@ -750,6 +1063,65 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
             return modified;
         }
 
+        public int removeAt(int... indices) { // indexurile sunt relative la sublista
+            checkForComodification();
+            int removed = root.removeAt(indices, offset, offset + size);
+            if(removed > 0) updateSizeAndModCount(-removed);
+            return removed;
+        }
+
+        public int removeAt(BitSet indices) {
+            checkForComodification();
+            int removed = root.removeAt(indices, offset, offset + size);
+            if(removed > 0) updateSizeAndModCount(-removed);
+            return removed;
+        }
+
+        public boolean parallelRemoveIf(Predicate<? super T> filter) {
+            checkForComodification();
+            int oldSize = root.size;
+            boolean modified = root.parallelRemoveIf(filter, offset, offset + size);
+            if(modified) updateSizeAndModCount(root.size - oldSize);
+            return modified;
+        }
+
+        public void parallelReplaceAll(UnaryOperator<T> operator) {
+            checkForComodification();
+            root.parallelReplaceAllRange(operator, offset, offset + size);
+        }
+
+        public void parallelForEach(Consumer<? super T> action) {
+            checkForComodification();
+            root.parallelForEachRange(action, offset, offset + size);
+        }
+
+        public void forEachConcurrent(Consumer<? super T> action, int maxConcurrency) {
+            checkForComodification();
+            root.forEachConcurrentRange(action, maxConcurrency, offset, offset + size);
+        }
+
+        public void replaceAllConcurrent(UnaryOperator<T> operator, int maxConcurrency) {
+            checkForComodification();
+            root.replaceAllConcurrentRange(operator, maxConcurrency, offset, offset + size);
+        }
+
+        public <R> MyArrayList<R> mapConcurrent(Function<? super T, ? extends R> mapper, int maxConcurrency) {
+            checkForComodification();
+            return root.mapConcurrentRange(mapper, maxConcurrency, offset, offset + size);
+        }
+
+        public void sort(Comparator<? super T> c) { // sorteaza direct in elementData, fara copie prin toArray
+            checkForComodification();
+            root.sortRange(c, offset, offset + size, false);
+            updateSizeAndModCount(0);
+        }
+
+        public void parallelSort(Comparator<? super T> c) {
+            checkForComodification();
+            root.sortRange(c, offset, offset + size, true);
+            updateSizeAndModCount(0);
+        }
+
         public Object[] toArray() {
             checkForComodification();
             return Arrays.copyOfRange(root.elementData, offset, offset + size);
@@ -912,7 +1284,7 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
             };
         }
 
-        public List<T> subList(int fromIndex, int toIndex) {
+        public SubList<T> subList(int fromIndex, int toIndex) {
             subListRangeCheck(fromIndex, toIndex, size);
             return new SubList<>(this, fromIndex, toIndex);
         }
@@ -1100,15 +1472,15 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
 
     //ceva random cu biti (pentru removeIf)
 
-    private static long[] nBits(int n) {
+    static long[] nBits(int n) {
         return new long[((n-1) >> 6) + 1];
     }
 
-    private static void setBit(long[] bits, int i) { // <--- !!! --->
+    static void setBit(long[] bits, int i) { // <--- !!! --->
         bits[i >> 6] |= 1L << i;
     }
 
-    private static boolean isClear(long[] bits, int i) {
+    static boolean isClear(long[] bits, int i) {
         return (bits[i >> 6] & (1L << i)) == 0;
     }
 
@@ -1130,12 +1502,7 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
                 if(filter.test(elementAt(temp, i))) setBit(deathRow, i - beg);
             }
             if(modCount != expectedModCount) throw new ConcurrentModificationException();
-            modCount++;
-            int w = beg;
-            for(i = beg; i < end; i++) {
-                if(isClear(deathRow, i - beg)) temp[w++] = temp[i];
-            }
-            shiftTailOverGap(temp, w, end);
+            removeMarked(deathRow, beg, end);
             return true;
         } else {
             if(modCount != expectedModCount) throw new ConcurrentModificationException();
@@ -1143,6 +1510,278 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
         }
     }
 
+    private void removeMarked(long[] deathRow, int beg, final int end) { // sterge dintr-o trecere elementele cu bitul (i - beg) setat
+        modCount++;
+        if(log != null) log.removeAt(markedPositions(deathRow, beg));
+        final Object[] dst = unshare(); // elementData, sau copia lui daca era impartit cu un vector
+        int w = beg, r = beg; // r - inceputul bucatii de elemente ramase care inca n-a fost mutata
+        for(int k = 0; k < deathRow.length; k++) { // sarim direct din bit setat in bit setat, bucatile dintre ele se muta cu arraycopy
+            for(long word = deathRow[k]; word != 0; word &= word - 1) {
+                int i = beg + (k << 6) + Long.numberOfTrailingZeros(word);
+                if(i > r) {
+                    System.arraycopy(dst, r, dst, w, i - r);
+                    w += i - r;
+                }
+                r = i + 1;
+            }
+        }
+        shiftTailOverGap(dst, w, r); // restul, de la ultimul element sters pana la size
+    }
+
+    private static int[] markedPositions(long[] deathRow, int beg) { // pozitiile bitilor setati, pentru jurnal
+        int n = 0;
+        for(long word : deathRow) n += Long.bitCount(word);
+        int[] at = new int[n];
+        n = 0;
+        for(int k = 0; k < deathRow.length; k++) {
+            for(long word = deathRow[k]; word != 0; word &= word - 1) at[n++] = beg + (k << 6) + Long.numberOfTrailingZeros(word);
+        }
+        return at;
+    }
+
+    public int removeAt(int... indices) { // sterge elementele de pe pozitiile date (in orice ordine, repetarile conteaza o data); returneaza cate a sters
+        return removeAt(indices, 0, size);
+    }
+
+    public int removeAt(BitSet indices) { // sterge elementele ale caror biti sunt setati
+        return removeAt(indices, 0, size);
+    }
+
+    int removeAt(int[] indices, int from, final int end) { // indices relative la from
+        final int n = end - from;
+        int min = n;
+        for(int index : indices) {
+            Objects.checkIndex(index, n); // verificam tot inainte sa schimbam ceva
+            min = Math.min(min, index);
+        }
+        if(min == n) return 0;
+        final int beg = from + min;
+        final long[] deathRow = nBits(end - beg);
+        int removed = 0;
+        for(int index : indices) {
+            int i = from + index - beg;
+            if(isClear(deathRow, i)) {
+                setBit(deathRow, i);
+                removed++;
+            }
+        }
+        removeMarked(deathRow, beg, end);
+        return removed;
+    }
+
+    int removeAt(BitSet indices, int from, final int end) {
+        final int n = end - from;
+        if(indices.length() > n) throw new IndexOutOfBoundsException("Index: " + (indices.length() - 1) + ", Dimensiunea: " + n);
+        int min = indices.nextSetBit(0);
+        if(min < 0) return 0;
+        final int beg = from + min;
+        final long[] deathRow = nBits(end - beg);
+        for(int i = min; i >= 0; i = indices.nextSetBit(i + 1)) setBit(deathRow, i - min);
+        removeMarked(deathRow, beg, end);
+        return indices.cardinality();
+    }
+
+    // Variante paralele pentru removeIf / replaceAll / forEach, pe ForkJoinPool.commonPool().
+    // Predicatul / operatia / actiunea trebuie sa poata fi apelate din mai multe thread-uri deodata, si nu au voie sa schimbe lista.
+
+    private static final int PARALLEL_GRAIN = 4096; // sub atatea elemente o bucata nu se mai imparte
+
+    @FunctionalInterface
+    interface RangeAction { // lucreaza pe indexurile [lo, hi)
+        void run(int lo, int hi);
+    }
+
+    @SuppressWarnings("serial") // task-urile nu se serializeaza
+    private static final class RangeTask extends RecursiveAction { // imparte [lo, hi) in doua pana la PARALLEL_GRAIN
+        private final int base, lo, hi;
+        private final RangeAction action;
+
+        RangeTask(int base, int lo, int hi, RangeAction action) {
+            this.base = base;
+            this.lo = lo;
+            this.hi = hi;
+            this.action = action;
+        }
+
+        protected void compute() {
+            if(hi - lo > PARALLEL_GRAIN) {
+                int mid = base + ((((lo + hi) >>> 1) - base) & ~63); // taiem la multiplu de 64 fata de base -> fiecare bucata are cuvintele ei din deathRow
+                if(mid > lo) {
+                    invokeAll(new RangeTask(base, lo, mid, action), new RangeTask(base, mid, hi, action));
+                    return;
+                }
+            }
+            action.run(lo, hi);
+        }
+    }
+
+    public boolean parallelRemoveIf(Predicate<? super T> filter) {
+        return parallelRemoveIf(filter, 0, size);
+    }
+
+    boolean parallelRemoveIf(Predicate<? super T> filter, final int from, final int end) { // ca removeIf, dar deathRow se umple in paralel, apoi o singura compactare
+        Objects.requireNonNull(filter);
+        final int expectedModCount = modCount;
+        final Object[] temp = elementData;
+        if(from >= end) return false;
+        final long[] deathRow = nBits(end - from);
+        new RangeTask(from, from, end, (lo, hi) -> {
+            for(int i = lo; i < hi; i++) {
+                if(filter.test(elementAt(temp, i))) setBit(deathRow, i - from);
+            }
+        }).invoke(); // daca filtrul arunca exceptie, lista ramane neschimbata
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        int word = 0;
+        while(word < deathRow.length && deathRow[word] == 0) word++;
+        if(word == deathRow.length) return false;
+        modCount++;
+        if(log != null) log.removeAt(markedPositions(deathRow, from));
+        final Object[] dst = unshare();
+        final int beg = from + (word << 6) + Long.numberOfTrailingZeros(deathRow[word]);
+        int w = beg;
+        for(int i = beg; i < end; i++) {
+            if(isClear(deathRow, i - from)) dst[w++] = dst[i];
+        }
+        shiftTailOverGap(dst, w, end);
+        return true;
+    }
+
+    public void parallelReplaceAll(UnaryOperator<T> operator) {
+        parallelReplaceAllRange(operator, 0, size);
+        modCount++;
+    }
+
+    private void parallelReplaceAllRange(UnaryOperator<T> operator, int from, int end) { // fiecare bucata scrie doar in indexurile ei
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        final Object[] temp = unshare();
+        try {
+            new RangeTask(from, from, end, (lo, hi) -> {
+                for(int i = lo; i < hi; i++) {
+                    temp[i] = operator.apply(elementAt(temp, i));
+                }
+            }).invoke();
+        } finally {
+            indexInvalidate(); // si daca operatorul arunca, o parte din elemente s-au schimbat deja
+            if(log != null) log.set(from, temp, from, end - from);
+        }
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    public void parallelForEach(Consumer<? super T> action) { // ordinea apelurilor nu e garantata
+        parallelForEachRange(action, 0, size);
+    }
+
+    private void parallelForEachRange(Consumer<? super T> action, int from, int end) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final Object[] temp = elementData;
+        new RangeTask(from, from, end, (lo, hi) -> {
+            for(int i = lo; i < hi; i++) {
+                action.accept(elementAt(temp, i));
+            }
+        }).invoke();
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    // Variante concurente pentru actiuni care asteapta (fisiere, retea, alt I/O blocant): elementele se lucreaza pe cel mult
+    // maxConcurrency virtual threads, fiecare ia urmatorul index liber pana se termina lista. Pentru calcul pur raman mai bune parallel*.
+    // Prima exceptie opreste tot: nu se mai iau elemente noi, thread-urile care lucreaza sunt intrerupte, se asteapta toate,
+    // apoi exceptia se arunca mai departe (doar prima). Daca e intrerupt thread-ul care asteapta,
+    // se anuleaza la fel si se arunca CancellationException. Lista nu are voie sa fie schimbata pana se termina (ConcurrentModificationException).
+
+    private void concurrentRange(final int from, final int end, int maxConcurrency, IntConsumer task) { // task(i) pentru fiecare i din [from, end)
+        if(maxConcurrency <= 0) throw new IllegalArgumentException("maxConcurrency gresit: " + maxConcurrency);
+        if(from >= end) return;
+        final AtomicInteger cursor = new AtomicInteger(from);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread[] workers = new Thread[Math.min(maxConcurrency, end - from)];
+        final Runnable worker = () -> {
+            try {
+                for(int i; failure.get() == null && (i = cursor.getAndIncrement()) < end; ) task.accept(i);
+            } catch (Throwable t) {
+                if(failure.compareAndSet(null, t)) cancelWorkers(cursor, end, workers); // cele de dupa prima sunt de obicei urmarea intreruperii, se ignora
+            }
+        };
+        final Thread.Builder builder = Thread.ofVirtual().name("MyArrayList-concurrent-", 0);
+        for(int k = 0; k < workers.length; k++) workers[k] = builder.unstarted(worker); // tot array-ul inainte de primul start: start() il face vizibil fiecarui worker
+        int started = 0;
+        while(started < workers.length && failure.get() == null) workers[started++].start(); // dupa un esec restul nu mai pornesc
+        boolean interrupted = false;
+        for(int k = 0; k < started; ) {
+            try {
+                workers[k].join();
+                k++;
+            } catch (InterruptedException e) { // anulat de cine a apelat: oprim workerii si ii asteptam totusi, ca nimeni sa nu mai atinga lista dupa return
+                interrupted = true;
+                failure.compareAndSet(null, new CancellationException("Intrerupt in timp ce astepta elementele"));
+                cancelWorkers(cursor, end, workers);
+            }
+        }
+        if(interrupted) Thread.currentThread().interrupt();
+        Throwable t = failure.get();
+        if(t instanceof RuntimeException r) throw r;
+        if(t instanceof Error e) throw e;
+        if(t != null) throw new CompletionException(t); // exceptie checked aruncata "pe ascuns" de actiune
+    }
+
+    private static void cancelWorkers(AtomicInteger cursor, int end, Thread[] workers) {
+        cursor.set(end);
+        for(Thread w : workers) {
+            if(w != null && w != Thread.currentThread()) w.interrupt();
+        }
+    }
+
+    public void forEachConcurrent(Consumer<? super T> action, int maxConcurrency) { // ordinea apelurilor nu e garantata
+        forEachConcurrentRange(action, maxConcurrency, 0, size);
+    }
+
+    private void forEachConcurrentRange(Consumer<? super T> action, int maxConcurrency, int from, int end) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final Object[] temp = elementData;
+        concurrentRange(from, end, maxConcurrency, i -> {
+            if(modCount != expectedModCount) throw new ConcurrentModificationException(); // opreste si ceilalti workeri
+            action.accept(elementAt(temp, i));
+        });
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    public void replaceAllConcurrent(UnaryOperator<T> operator, int maxConcurrency) {
+        replaceAllConcurrentRange(operator, maxConcurrency, 0, size);
+        modCount++;
+    }
+
+    private void replaceAllConcurrentRange(UnaryOperator<T> operator, int maxConcurrency, int from, int end) { // rezultatele intr-un array separat, scrise in lista doar daca au reusit toate
+        Objects.requireNonNull(operator);
+        final Object[] out = computeConcurrent(operator, maxConcurrency, from, end);
+        final Object[] dst = unshare();
+        System.arraycopy(out, 0, dst, from, out.length);
+        indexInvalidate();
+        if(log != null) log.set(from, out, 0, out.length);
+    }
+
+    public <R> MyArrayList<R> mapConcurrent(Function<? super T, ? extends R> mapper, int maxConcurrency) { // lista noua, rezultatul i pe pozitia i
+        return mapConcurrentRange(mapper, maxConcurrency, 0, size);
+    }
+
+    private <R> MyArrayList<R> mapConcurrentRange(Function<? super T, ? extends R> mapper, int maxConcurrency, int from, int end) {
+        Objects.requireNonNull(mapper);
+        return adopt(computeConcurrent(mapper, maxConcurrency, from, end));
+    }
+
+    private Object[] computeConcurrent(Function<? super T, ?> f, int maxConcurrency, int from, int end) { // f(element i) in out[i - from]
+        final int expectedModCount = modCount;
+        final Object[] temp = elementData;
+        final Object[] out = new Object[end - from];
+        concurrentRange(from, end, maxConcurrency, i -> {
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            out[i - from] = f.apply(elementAt(temp, i)); // fiecare index e scris de un singur worker; join() il face vizibil aici
+        });
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        return out;
+    }
+
     public void replaceAll(UnaryOperator<T> operator) { //inlocuieste fiecare element cu rezultatul operatiei cu acel element
         replaceAllRange(operator, 0, size);
         modCount++;
@@ -1151,20 +1790,268 @@ public class MyArrayList<T> extends AbstractList<T> implements List<T>, RandomAc
     private void replaceAllRange(UnaryOperator<T> operator, int i, int end) { // functie ajutatoare pentru replaceAll (+spoate de dat range anuimit, comod pentru subliste)
         Objects.requireNonNull(operator);
         final int expectedModCount = modCount;
-        final Object[] temp = elementData;
-        for(; modCount == expectedModCount && i < end; i++) {
-            temp[i] = operator.apply(elementAt(temp, i));
+        final Object[] temp = unshare();
+        final int from = i;
+        try {
+            for(; modCount == expectedModCount && i < end; i++) {
+                temp[i] = operator.apply(elementAt(temp, i));
+            }
+        } finally {
+            indexInvalidate(); // si daca operatorul arunca, elementele de dinainte sunt deja schimbate
+            if(log != null) log.set(from, temp, from, i - from); // doar ce s-a schimbat, si daca operatorul arunca
         }
         if(modCount != expectedModCount) throw new ConcurrentModificationException();
     }
     
 
-    @SuppressWarnings("unchecked")
     public void sort(Comparator<? super T> c) { // sorteaza lista dupa specific comparator
+        sortRange(c, 0, size, false);
+    }
+
+    public void parallelSort(Comparator<? super T> c) { // la fel ca sort, dar merge sort fork/join (Arrays.parallelSort) pe ForkJoinPool.commonPool()
+        sortRange(c, 0, size, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    void sortRange(Comparator<? super T> c, int from, int to, boolean parallel) { // functie ajutatoare pentru sort / parallelSort (+ range pentru subliste)
         final int expectedModCount = modCount;
-        Arrays.sort((T[]) elementData, 0, size, c);
+        unshare();
+        try {
+            if(parallel) {
+                Arrays.parallelSort((T[]) elementData, from, to, c); // sub 8192 elemente face singur sortare secventiala
+            } else {
+                Arrays.sort((T[]) elementData, from, to, c);
+            }
+        } finally {
+            indexInvalidate(); // si daca comparatorul arunca, intervalul e deja amestecat
+            if(log != null) log.set(from, elementData, from, to - from); // continutul nou al intervalului (si daca comparatorul arunca la jumatate)
+        }
         if(modCount != expectedModCount) throw new ConcurrentModificationException();
         modCount++;
     }
-}
 
+    // Jurnal de schimbari optional, pentru replici (vezi MyChangeLog): sursa da deltaSince(versiunea replicii),
+    // replica aplica delta cu applyDelta. O replica se porneste dintr-un clone() al sursei (are jurnalul la aceeasi versiune).
+
+    public long enableChangeLog() { // pana la 1M valori / pozitii tinute in jurnal
+        return enableChangeLog(1 << 20);
+    }
+
+    public long enableChangeLog(int maxElements) { // intoarce versiunea curenta
+        if(log == null) log = new MyChangeLog(maxElements, 0);
+        return log.version();
+    }
+
+    public void disableChangeLog() {
+        log = null;
+    }
+
+    public boolean isChangeLogged() {
+        return log != null;
+    }
+
+    private MyChangeLog changeLog() {
+        if(log == null) throw new IllegalStateException("Jurnalul de schimbari nu e pornit (enableChangeLog)");
+        return log;
+    }
+
+    public long version() { // cate schimbari s-au scris de la enableChangeLog
+        return changeLog().version();
+    }
+
+    public MyChangeLog.Delta deltaSince(long version) { // null daca jurnalul nu mai are schimbarile de atunci (replica trebuie copiata din nou)
+        return changeLog().deltaSince(version);
+    }
+
+    public void truncateChangeLog(long upTo) { // toate replicile sunt cel putin la upTo
+        changeLog().truncate(upTo);
+    }
+
+    public void applyDelta(MyChangeLog.Delta delta) { // lista trebuie sa fie exact la delta.fromVersion()
+        final MyChangeLog l = changeLog();
+        if(l.version() != delta.fromVersion()) throw new IllegalStateException("Lista e la versiunea " + l.version() + ", delta porneste de la " + delta.fromVersion());
+        l.muted = true;
+        try {
+            for(MyChangeLog.Op op : delta.ops()) {
+                switch(op.kind) {
+                    case MyChangeLog.INSERT -> {
+                        @SuppressWarnings("unchecked")
+                        List<T> values = (List<T>) Arrays.asList(op.values).subList(0, op.count);
+                        addAll(op.index, values);
+                    }
+                    case MyChangeLog.REMOVE -> {
+                        Objects.checkFromToIndex(op.index, op.index + op.count, size);
+                        removeRange(op.index, op.index + op.count);
+                    }
+                    case MyChangeLog.SET -> {
+                        Objects.checkFromIndexSize(op.index, op.count, size);
+                        System.arraycopy(op.values, 0, unshare(), op.index, op.count);
+                        indexInvalidate();
+                    }
+                    case MyChangeLog.REMOVE_AT -> removeAt(op.positions);
+                    default -> throw new IllegalStateException("Operatie necunoscuta: " + op.kind);
+                }
+            }
+        } finally {
+            l.muted = false;
+        }
+        l.applied(delta);
+    }
+
+    // Index optional valoare -> pozitii, pentru contains / indexOf / lastIndexOf / remove(Object) in O(1) asteptat.
+    // add, add(int), addAll, set si remove de un element il actualizeaza pe loc (pozitiile de dupa index se muta cu +-1,
+    // fara hash-uri noi); operatiile in bloc (removeIf, removeAll, removeRange, sort, replaceAll) doar il marcheaza ca vechi,
+    // si se reconstruieste o singura data la urmatoarea cautare.
+    // Foloseste hashCode()/equals() ale elementelor, deci elementele nu au voie sa-si schimbe hashCode cat sunt in lista.
+
+    // Atentie: cu indexul pornit, indexOf / contains / lastIndexOf pot reconstrui indexul, deci si citirile schimba starea listei:
+    // lista nu mai poate fi citita din mai multe thread-uri deodata fara sincronizare, nici daca nimeni nu scrie.
+    public void enableHashIndex() {
+        if(index == null) index = new HashIndex();
+    }
+
+    public void disableHashIndex() {
+        index = null;
+    }
+
+    public boolean isHashIndexed() {
+        return index != null;
+    }
+
+    private HashIndex index() { // indexul, reconstruit daca e vechi
+        HashIndex idx = index;
+        if(!idx.valid) idx.rebuild(elementData, size);
+        return idx;
+    }
+
+    private void indexInvalidate() { // orice scriere de elemente fara modCount trece pe aici sau prin indexSet
+        setCount++;
+        if(index != null) index.valid = false;
+    }
+
+    private void indexAppend(Object value, int i) {
+        if(index != null && index.valid) index.positions(value).append(i);
+    }
+
+    private void indexRemove(Object value, int i) { // inainte ca elementele de dupa i sa fie mutate (elementData inca are elementul pe i)
+        if(index != null && index.valid) {
+            index.remove(value, i);
+            index.shift(elementData, i + 1, size, -1);
+        }
+    }
+
+    private void indexInsert(int i, Object value) { // dupa ce value a fost pus pe pozitia i si restul mutat cu 1
+        if(index != null && index.valid) {
+            index.shift(elementData, i + 1, size, 1);
+            index.positions(value).insert(i);
+        }
+    }
+
+    private void indexInsert(int i, Object[] values, int n) { // values[0..n) pe pozitiile i..i+n, restul deja mutat cu n
+        if(index != null && index.valid) {
+            index.shift(elementData, i + n, size, n);
+            for(int j = 0; j < n; j++) index.positions(values[j]).insert(i + j);
+        }
+    }
+
+    private void indexSet(int i, Object oldValue, Object newValue) {
+        setCount++;
+        if(index != null && index.valid && oldValue != newValue) {
+            index.remove(oldValue, i);
+            index.positions(newValue).insert(i);
+        }
+    }
+
+    private static final class HashIndex {
+        private final HashMap<Object, Positions> map = new HashMap<>(); // HashMap accepta si cheia null
+        private boolean valid; // false -> se reconstruieste la urmatoarea cautare
+
+        void rebuild(Object[] temp, int size) {
+            map.clear();
+            for(int i = 0; i < size; i++) positions(temp[i]).append(i);
+            valid = true;
+        }
+
+        Positions positions(Object value) {
+            return map.computeIfAbsent(value, k -> new Positions());
+        }
+
+        // Elementele a[from..to) isi schimba pozitia cu delta: la delta > 0 (insert) a e deja mutat, deci a[j] era pe j - delta;
+        // la delta < 0 (remove) a nu e inca mutat, deci a[j] trece pe j + delta. Fara rehash, si O(1) la coada listei.
+        void shift(Object[] a, int from, int to, int delta) {
+            final int moved = to - from;
+            if(moved <= 0) return; // insert / remove la sfarsit: nu se muta nimic
+            if(moved < map.size()) { // putine elemente mutate fata de cate valori sunt: doar pozitiile lor
+                if(delta > 0) {
+                    for(int j = to - 1; j >= from; j--) map.get(a[j]).move(j - delta, j); // de la coada, ca pozitiile sa ramana sortate
+                } else {
+                    for(int j = from; j < to; j++) map.get(a[j]).move(j, j + delta);
+                }
+                return;
+            }
+            final int start = (delta > 0) ? from - delta : from; // pozitiile vechi >= start se muta
+            for(Positions p : map.values()) p.shift(start, delta);
+        }
+
+        void remove(Object value, int i) {
+            Positions p = map.get(value);
+            if(p != null && p.remove(i) && p.count == 0) map.remove(value);
+        }
+
+        int first(Object value, int from, int to) { // prima pozitie din [from, to) sau -1
+            Positions p = map.get(value);
+            if(p == null) return -1;
+            int k = p.lowerBound(from);
+            return k < p.count && p.at[k] < to ? p.at[k] : -1;
+        }
+
+        int last(Object value, int from, int to) { // ultima pozitie din [from, to) sau -1
+            Positions p = map.get(value);
+            if(p == null) return -1;
+            int k = p.lowerBound(to) - 1;
+            return k >= 0 && p.at[k] >= from ? p.at[k] : -1;
+        }
+    }
+
+    private static final class Positions { // pozitiile unei valori, sortate crescator
+        int[] at = new int[2];
+        int count;
+
+        int lowerBound(int i) { // primul k cu at[k] >= i
+            int lo = 0, hi = count;
+            while(lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if(at[mid] < i) lo = mid + 1; else hi = mid;
+            }
+            return lo;
+        }
+
+        void append(int i) { // i e mai mare decat toate pozitiile de pana acum
+            if(count == at.length) at = Arrays.copyOf(at, count << 1);
+            at[count++] = i;
+        }
+
+        void insert(int i) {
+            int k = lowerBound(i);
+            if(count == at.length) at = Arrays.copyOf(at, count << 1);
+            System.arraycopy(at, k, at, k + 1, count - k);
+            at[k] = i;
+            count++;
+        }
+
+        void shift(int from, int delta) {
+            for(int k = lowerBound(from); k < count; k++) at[k] += delta;
+        }
+
+        void move(int oldPos, int newPos) { // oldPos exista; newPos nu trece peste vecini (vezi HashIndex.shift)
+            at[lowerBound(oldPos)] = newPos;
+        }
+
+        boolean remove(int i) {
+            int k = lowerBound(i);
+            if(k == count || at[k] != i) return false;
+            System.arraycopy(at, k + 1, at, k, --count - k);
+            return true;
+        }
+    }
+}
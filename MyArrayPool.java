@@ -0,0 +1,191 @@
+package Collections;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.*;
+
+// Pool de array-uri Object[] pentru elementData, ca listele care traiesc putin sa nu aloce de fiecare data array-uri noi prin grow().
+// Array-urile sunt pe clase de marime (puteri ale lui 2: 16, 32, ..., maxLength); take(n) da un array din cea mai mica clasa >= n.
+// Fiecare thread are un cache mic al lui (fara sincronizare), iar cand acesta e gol / plin se trece la un pool comun,
+// impartit in mai multe bucati (stripe) cu lock-ul lor, alese dupa thread, ca thread-urile sa nu astepte toate dupa acelasi lock.
+// Array-urile se curata (null) cand intra in pool. Cele mai mari decat maxLength sau de alte marimi nu se pastreaza.
+// Folosire: new MyArrayList<>(pool), apoi list.release() cand lista nu mai trebuie, sau un Scope in try-with-resources.
+// trimToSize pe o lista cu pool taie doar pana la cea mai mica clasa in care incap elementele, ca array-ul sa poata reveni in pool.
+// Dupa release lista (si iteratorii / sublistele ei) nu mai au voie sa fie folosite cu elementele vechi: array-ul poate fi deja la alta lista.
+public class MyArrayPool {
+
+    // Variabile
+    private static final int MIN_SHIFT = 4; // cea mai mica clasa: 16
+    private static final MyArrayPool COMMON = new MyArrayPool(1 << 12, 8, 32);
+
+    private final int classes; // numar de clase de marime
+    private final int localDepth, sharedDepth; // cate array-uri pe clasa in cache-ul unui thread / intr-un stripe
+    private final ThreadLocal<Stack[]> local;
+    private final Stripe[] stripes;
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder(), returned = new LongAdder(), dropped = new LongAdder();
+
+    // Constructore
+    MyArrayPool(int maxLength, int localDepth, int sharedDepth) {
+        if(maxLength < (1 << MIN_SHIFT) || Integer.bitCount(maxLength) != 1) throw new IllegalArgumentException("maxLength trebuie sa fie putere a lui 2, >= 16: " + maxLength);
+        if(localDepth < 0 || sharedDepth < 0) throw new IllegalArgumentException("Adancime gresita: " + localDepth + ", " + sharedDepth);
+        this.classes = Integer.numberOfTrailingZeros(maxLength) - MIN_SHIFT + 1;
+        this.localDepth = localDepth;
+        this.sharedDepth = sharedDepth;
+        this.local = ThreadLocal.withInitial(() -> newStacks(this.classes, this.localDepth));
+        int n = 1;
+        while(n < Runtime.getRuntime().availableProcessors()) n <<= 1; // putere a lui 2 >= procesoare
+        this.stripes = new Stripe[n];
+        for(int i = 0; i < n; i++) stripes[i] = new Stripe(newStacks(classes, sharedDepth));
+    }
+
+    //Metode
+    public static MyArrayPool common() { // pool-ul implicit: clase pana la 4096, 8 array-uri pe clasa per thread, 32 per stripe
+        return COMMON;
+    }
+
+    private static Stack[] newStacks(int classes, int depth) {
+        Stack[] s = new Stack[classes];
+        for(int c = 0; c < classes; c++) s[c] = new Stack(depth);
+        return s;
+    }
+
+    private static final class Stack { // array-uri libere dintr-o clasa
+        final Object[][] arrays;
+        int count;
+
+        Stack(int depth) {
+            arrays = new Object[depth][];
+        }
+
+        Object[] pop() {
+            if(count == 0) return null;
+            Object[] a = arrays[--count];
+            arrays[count] = null;
+            return a;
+        }
+
+        boolean push(Object[] a) {
+            if(count == arrays.length) return false;
+            arrays[count++] = a;
+            return true;
+        }
+    }
+
+    private static final class Stripe { // o bucata din pool-ul comun, pazita de lock-ul ei
+        final Stack[] stacks;
+
+        Stripe(Stack[] stacks) {
+            this.stacks = stacks;
+        }
+
+        synchronized Object[] pop(int c) {
+            return stacks[c].pop();
+        }
+
+        synchronized boolean push(int c, Object[] a) {
+            return stacks[c].push(a);
+        }
+    }
+
+    private Stripe stripe() {
+        long id = Thread.currentThread().threadId();
+        return stripes[(int) (id ^ (id >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static int classOf(int length) { // cea mai mica clasa cu marimea >= length
+        return (length <= 1 << MIN_SHIFT) ? 0 : 32 - Integer.numberOfLeadingZeros(length - 1) - MIN_SHIFT;
+    }
+
+    int lengthFor(int minLength) { // lungimea array-ului pe care l-ar da take(minLength)
+        final int c = classOf(minLength);
+        return (c >= classes) ? minLength : 1 << (c + MIN_SHIFT);
+    }
+
+    public int maxLength() {
+        return 1 << (classes - 1 + MIN_SHIFT);
+    }
+
+    public Object[] take(int minLength) { // array gol cu length >= minLength; din pool daca are, altfel nou
+        if(minLength < 0) throw new IllegalArgumentException("Marime gresita: " + minLength);
+        final int c = classOf(minLength);
+        if(c >= classes) { // prea mare pentru pool
+            misses.increment();
+            return new Object[minLength];
+        }
+        Object[] a = local.get()[c].pop();
+        if(a == null) a = stripe().pop(c);
+        if(a != null) {
+            hits.increment();
+            return a;
+        }
+        misses.increment();
+        return new Object[1 << (c + MIN_SHIFT)];
+    }
+
+    public void give(Object[] a) { // intoarce un array in pool; cine il da nu mai are voie sa-l foloseasca
+        give(a, a.length);
+    }
+
+    void give(Object[] a, int used) { // doar [0, used) poate avea elemente, restul e deja null
+        final int length = a.length;
+        final int c = classOf(length);
+        if(length == 0 || c >= classes || length != 1 << (c + MIN_SHIFT)) { // marime care nu e clasa
+            dropped.increment();
+            return;
+        }
+        Arrays.fill(a, 0, used, null);
+        if(local.get()[c].push(a) || stripe().push(c, a)) returned.increment();
+        else dropped.increment();
+    }
+
+    public Scope scope() {
+        return new Scope();
+    }
+
+    // Liste create prin scope: la close() toate isi dau array-ul inapoi in pool.
+    // try (MyArrayPool.Scope s = pool.scope()) { MyArrayList<String> l = s.newList(); ... }
+    public final class Scope implements AutoCloseable {
+        private final MyArrayList<MyArrayList<?>> lists = new MyArrayList<>();
+
+        private Scope() {
+        }
+
+        public <T> MyArrayList<T> newList() {
+            MyArrayList<T> list = new MyArrayList<>(MyArrayPool.this);
+            lists.add(list);
+            return list;
+        }
+
+        public void close() {
+            for(int i = lists.size() - 1; i >= 0; i--) lists.get(i).release();
+            lists.clear();
+        }
+    }
+
+    // Statistici
+    public long hits() { // take servit din pool
+        return hits.sum();
+    }
+
+    public long misses() { // take care a alocat array nou
+        return misses.sum();
+    }
+
+    public long returned() { // array-uri primite si pastrate
+        return returned.sum();
+    }
+
+    public long dropped() { // array-uri primite dar lasate la GC (pool plin sau marime care nu e clasa)
+        return dropped.sum();
+    }
+
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        returned.reset();
+        dropped.reset();
+    }
+
+    public String toString() {
+        long h = hits(), m = misses();
+        return "MyArrayPool[hits=" + h + ", misses=" + m + ", hitRate=" + (h + m == 0 ? 0 : 100 * h / (h + m)) + "%, returned=" + returned() + ", dropped=" + dropped() + "]";
+    }
+}
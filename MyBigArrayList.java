@@ -0,0 +1,446 @@
+package Collections;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.*;
+
+// Lista impartita in bucati (chunk-uri) de 2^chunkShift elemente. Cand se umple, se aloca doar un chunk nou,
+// elementele existente nu se copiaza niciodata (se copiaza doar directorul de referinte catre chunk-uri, care e mic).
+// Poate avea mai mult de Integer.MAX_VALUE elemente: pentru asta sunt getLong / setLong / sizeAsLong etc.
+// Metodele din List (cu int) vad doar primele Integer.MAX_VALUE elemente.
+public class MyBigArrayList<T> extends AbstractList<T> implements List<T>, RandomAccess {
+
+    // Variabile
+    static final int DEFAULT_CHUNK_SHIFT = 14; // 16384 elemente pe chunk
+    private static final Object[][] EMPTY_CHUNKS = {};
+
+    private final int chunkShift;
+    private final int chunkMask;
+    transient Object[][] chunks; // directorul; chunks[i] e null daca inca nu a fost alocat
+    private int chunkCount; // cate chunk-uri sunt alocate
+    private long size;
+
+    // Constructore
+    MyBigArrayList(int chunkShift) {
+        if(chunkShift < 4 || chunkShift > 30) {
+            throw new IllegalArgumentException("chunkShift gresit: " + chunkShift);
+        }
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.chunks = EMPTY_CHUNKS;
+    }
+
+    MyBigArrayList() {
+        this(DEFAULT_CHUNK_SHIFT);
+    }
+
+    MyBigArrayList(Collection<? extends T> c) {
+        this(DEFAULT_CHUNK_SHIFT);
+        addAll(c);
+    }
+
+    //Metode
+    private int chunkSize() {
+        return chunkMask + 1;
+    }
+
+    private long capacity() {
+        return (long) chunkCount << chunkShift;
+    }
+
+    private void grow(long minCapacity) { // adauga chunk-uri noi pana avem loc pentru minCapacity elemente
+        long neededChunks = (minCapacity + chunkMask) >>> chunkShift;
+        if(neededChunks > MyArrayList.SOFT_MAX_ARRAY_LENGTH) {
+            throw new OutOfMemoryError("Prea multe elemente: " + minCapacity);
+        }
+        int needed = (int) neededChunks;
+        if(needed > chunks.length) { // directorul creste ca un MyArrayList
+            int oldLength = chunks.length;
+            chunks = Arrays.copyOf(chunks, MyArrayList.MyNewLength(oldLength, needed - oldLength, Math.max(oldLength >> 1, 4)));
+        }
+        for(; chunkCount < needed; chunkCount++) {
+            chunks[chunkCount] = new Object[chunkSize()];
+        }
+    }
+
+    public void trimToSize() { // elibereaza chunk-urile goale de la sfarsit
+        modCount++;
+        int used = (int) ((size + chunkMask) >>> chunkShift);
+        for(int i = used; i < chunkCount; i++) chunks[i] = null;
+        chunkCount = used;
+        chunks = used == 0 ? EMPTY_CHUNKS : Arrays.copyOf(chunks, used);
+    }
+
+    public void ensureCapacity(long minCapacity) {
+        if(minCapacity > capacity()) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    public long sizeAsLong() {
+        return size;
+    }
+
+    public int size() { // contractul din Collection: Integer.MAX_VALUE daca sunt mai multe
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    T elementData(long index) {
+        return (T) chunks[(int) (index >>> chunkShift)][(int) index & chunkMask];
+    }
+
+    private void setElementData(long index, Object element) {
+        chunks[(int) (index >>> chunkShift)][(int) index & chunkMask] = element;
+    }
+
+    private void checkIndex(long index) {
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Dimensiunea: " + size);
+        }
+    }
+
+    private void rangeCheckForAdd(long index) {
+        if(index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Dimensiunea: " + size);
+        }
+    }
+
+    public T getLong(long index) {
+        checkIndex(index);
+        return elementData(index);
+    }
+
+    public T get(int index) {
+        return getLong(index);
+    }
+
+    public T setLong(long index, T element) {
+        checkIndex(index);
+        T oldValue = elementData(index);
+        setElementData(index, element);
+        return oldValue;
+    }
+
+    public T set(int index, T element) {
+        return setLong(index, element);
+    }
+
+    public boolean add(T e) { // adaugare la sfarsit: cel mult un chunk nou, fara copiere
+        modCount++;
+        final long s = size;
+        if(s == capacity()) grow(s + 1);
+        setElementData(s, e);
+        size = s + 1;
+        return true;
+    }
+
+    public void add(int index, T element) {
+        addLong(index, element);
+    }
+
+    public void addLong(long index, T element) { // la mijloc tot O(n): mutam coada cu o pozitie, chunk cu chunk
+        rangeCheckForAdd(index);
+        modCount++;
+        final long s = size;
+        if(s == capacity()) grow(s + 1);
+        moveRange(index, index + 1, s - index);
+        setElementData(index, element);
+        size = s + 1;
+    }
+
+    // muta n elemente de la src la dst, in bucati care nu trec peste marginea unui chunk
+    private void moveRange(long src, long dst, long n) {
+        if(dst < src) {
+            while(n > 0) {
+                int s = (int) src & chunkMask, d = (int) dst & chunkMask;
+                int run = (int) Math.min(n, Math.min(chunkSize() - s, chunkSize() - d));
+                System.arraycopy(chunks[(int) (src >>> chunkShift)], s, chunks[(int) (dst >>> chunkShift)], d, run);
+                src += run;
+                dst += run;
+                n -= run;
+            }
+        } else if(dst > src) {
+            while(n > 0) {
+                long srcLast = src + n - 1, dstLast = dst + n - 1;
+                int s = (int) srcLast & chunkMask, d = (int) dstLast & chunkMask;
+                int run = (int) Math.min(n, Math.min(s + 1, d + 1));
+                System.arraycopy(chunks[(int) (srcLast >>> chunkShift)], s - run + 1, chunks[(int) (dstLast >>> chunkShift)], d - run + 1, run);
+                n -= run;
+            }
+        }
+    }
+
+    private void clearRange(long from, long to) { // face null [from, to), chunk cu chunk
+        while(from < to) {
+            int f = (int) from & chunkMask;
+            int run = (int) Math.min(to - from, chunkSize() - f);
+            Arrays.fill(chunks[(int) (from >>> chunkShift)], f, f + run, null);
+            from += run;
+        }
+    }
+
+    public T remove(int index) {
+        return removeLong(index);
+    }
+
+    public T removeLong(long index) {
+        checkIndex(index);
+        T oldValue = elementData(index);
+        modCount++;
+        shiftTailOverGap(index, index + 1);
+        return oldValue;
+    }
+
+    public T removeLast() {
+        if(size == 0) throw new NoSuchElementException();
+        return removeLong(size - 1);
+    }
+
+    protected void removeRange(int fromIndex, int toIndex) {
+        removeRange((long) fromIndex, toIndex);
+    }
+
+    public void removeRange(long fromIndex, long toIndex) {
+        if(fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Din Index: " + fromIndex + " > Pana Index: " + toIndex);
+        }
+        modCount++;
+        shiftTailOverGap(fromIndex, toIndex);
+    }
+
+    private void shiftTailOverGap(long fromIndex, long toIndex) {
+        moveRange(toIndex, fromIndex, size - toIndex);
+        long newSize = size - (toIndex - fromIndex);
+        clearRange(newSize, size);
+        size = newSize;
+    }
+
+    public void clear() {
+        modCount++;
+        clearRange(0, size);
+        size = 0;
+    }
+
+    public boolean addAll(Collection<? extends T> c) { // copiem direct in chunk-uri, bucata cu bucata
+        Object[] arr = c.toArray();
+        modCount++;
+        int numNew = arr.length;
+        if(numNew == 0) return false;
+        final long s = size;
+        if(s + numNew > capacity()) grow(s + numNew);
+        long dst = s;
+        for(int i = 0; i < numNew; ) {
+            int d = (int) dst & chunkMask;
+            int run = Math.min(numNew - i, chunkSize() - d);
+            System.arraycopy(arr, i, chunks[(int) (dst >>> chunkShift)], d, run);
+            i += run;
+            dst += run;
+        }
+        size = s + numNew;
+        return true;
+    }
+
+    public long indexOfLong(Object obj) {
+        for(long i = 0; i < size; i++) {
+            if(Objects.equals(obj, elementData(i))) return i;
+        }
+        return -1;
+    }
+
+    public long lastIndexOfLong(Object obj) {
+        for(long i = size - 1; i >= 0; i--) {
+            if(Objects.equals(obj, elementData(i))) return i;
+        }
+        return -1;
+    }
+
+    public int indexOf(Object obj) { // doar in primele Integer.MAX_VALUE elemente (vederea List)
+        long end = size();
+        for(long i = 0; i < end; i++) {
+            if(Objects.equals(obj, elementData(i))) return (int) i;
+        }
+        return -1;
+    }
+
+    public int lastIndexOf(Object obj) {
+        for(long i = size() - 1; i >= 0; i--) {
+            if(Objects.equals(obj, elementData(i))) return (int) i;
+        }
+        return -1;
+    }
+
+    public boolean contains(Object obj) {
+        return indexOfLong(obj) >= 0;
+    }
+
+    public Object[] toArray() {
+        if(size > MyArrayList.SOFT_MAX_ARRAY_LENGTH) throw new OutOfMemoryError("Lista prea mare pentru un array: " + size);
+        Object[] a = new Object[(int) size];
+        for(int c = 0, copied = 0; copied < size; c++) {
+            int run = (int) Math.min(size - copied, chunkSize());
+            System.arraycopy(chunks[c], 0, a, copied, run);
+            copied += run;
+        }
+        return a;
+    }
+
+    public void forEach(Consumer<? super T> action) { // parcurge toata lista, si dupa Integer.MAX_VALUE
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final long size = this.size;
+        for(int c = 0; c < chunkCount && modCount == expectedModCount; c++) {
+            final Object[] chunk = chunks[c];
+            final long base = (long) c << chunkShift;
+            final int end = (int) Math.min(chunkSize(), size - base);
+            for(int i = 0; i < end && modCount == expectedModCount; i++) {
+                action.accept(MyArrayList.elementAt(chunk, i));
+            }
+        }
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    public Iterator<T> iterator() { // cursor long, ca sa nu ne oprim la Integer.MAX_VALUE
+        return new Iterator<T>() {
+            long cursor;
+            long lastRet = -1;
+            int expectedModCount = modCount;
+
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            public T next() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                long i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return elementData(lastRet = i);
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                removeLong(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        };
+    }
+
+    public Spliterator<T> spliterator() {
+        return new BigArrayListSpliterator(0, -1, 0);
+    }
+
+    final class BigArrayListSpliterator implements Spliterator<T> { // ca ArrayListSpliterator, dar cu indexuri long
+        private long index;
+        private long fence;
+        private int expectedModCount;
+
+        BigArrayListSpliterator(long origin, long fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private long getFence() {
+            long hi;
+            if((hi = fence) < 0) {
+                expectedModCount = modCount;
+                hi = fence = size;
+            }
+            return hi;
+        }
+
+        public BigArrayListSpliterator trySplit() { // taiem la margine de chunk cand se poate
+            long hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+            if(hi - lo > chunkSize()) mid &= ~(long) chunkMask;
+            return (lo >= mid) ? null : new BigArrayListSpliterator(lo, index = mid, expectedModCount);
+        }
+
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            long hi = getFence(), i = index;
+            if(i < hi) {
+                index = i + 1;
+                action.accept(elementData(i));
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+            return false;
+        }
+
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            long hi = getFence(), i = index;
+            index = hi;
+            while(i < hi) {
+                final Object[] chunk = chunks[(int) (i >>> chunkShift)];
+                int from = (int) i & chunkMask;
+                int to = (int) Math.min(chunkSize(), from + (hi - i));
+                for(int j = from; j < to; j++) {
+                    action.accept(MyArrayList.elementAt(chunk, j));
+                }
+                i += to - from;
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    public boolean removeIf(Predicate<? super T> filter) { // deathRow pe chunk-uri: un long[] pentru fiecare chunk atins
+        Objects.requireNonNull(filter);
+        final int expectedModCount = modCount;
+        final long end = size;
+        long[][] deathRow = null;
+        long first = -1;
+        for(long i = 0; i < end; i++) {
+            if(filter.test(elementData(i))) {
+                if(deathRow == null) {
+                    deathRow = new long[chunkCount][];
+                    first = i;
+                }
+                int c = (int) (i >>> chunkShift);
+                if(deathRow[c] == null) deathRow[c] = MyArrayList.nBits(chunkSize());
+                MyArrayList.setBit(deathRow[c], (int) i & chunkMask);
+            }
+        }
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        if(deathRow == null) return false;
+        modCount++;
+        long w = first;
+        for(long i = first; i < end; i++) {
+            long[] bits = deathRow[(int) (i >>> chunkShift)];
+            if(bits == null || MyArrayList.isClear(bits, (int) i & chunkMask)) setElementData(w++, elementData(i));
+        }
+        clearRange(w, end);
+        size = w;
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> c) { // sortare prin array temporar (limitat la SOFT_MAX_ARRAY_LENGTH elemente)
+        final int expectedModCount = modCount;
+        Object[] a = toArray();
+        Arrays.sort((T[]) a, c);
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        for(int ch = 0, copied = 0; copied < a.length; ch++) {
+            int run = Math.min(a.length - copied, chunkSize());
+            System.arraycopy(a, copied, chunks[ch], 0, run);
+            copied += run;
+        }
+        modCount++;
+    }
+}
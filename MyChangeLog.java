@@ -0,0 +1,232 @@
+package Collections;
+import java.io.Serializable;
+import java.util.*;
+
+// Jurnal de schimbari pentru un MyArrayList (vezi enableChangeLog): fiecare schimbare a listei creste versiunea cu 1
+// si se scrie ca o operatie: INSERT (index + valori), REMOVE (interval), SET (index + valori noi) sau REMOVE_AT (pozitii).
+// Operatiile la rand care se leaga se lipesc in una singura (add-uri la sfarsit -> un INSERT, remove(0) repetat -> un REMOVE,
+// set pe pozitii vecine -> un SET), iar sort / replaceAll se scriu ca un SET cu continutul nou al intervalului.
+// deltaSince(v) da operatiile de dupa versiunea v, ca o replica sa se sincronizeze in timp proportional cu schimbarile, nu cu lista.
+// Jurnalul tine cel mult maxElements valori / pozitii; operatiile mai vechi se arunca si deltaSince pentru ele intoarce null
+// (replica trebuie atunci copiata din nou).
+public final class MyChangeLog {
+
+    // Variabile
+    static final byte INSERT = 0, REMOVE = 1, SET = 2, REMOVE_AT = 3;
+
+    static final class Op implements Serializable { // o operatie din jurnal; dupa ce e "sigilata" nu se mai schimba
+        private static final long serialVersionUID = 1L;
+        final byte kind;
+        int index; // INSERT / SET: prima pozitie; REMOVE: fromIndex
+        int count; // cate valori / elemente sterse / pozitii
+        @SuppressWarnings("serial") // ca la MyArrayList: delta se poate serializa doar daca elementele se pot
+        Object[] values; // INSERT / SET, primele count sunt folosite
+        int[] positions; // REMOVE_AT, crescatoare, pozitiile dinainte de stergere
+        long startVersion, endVersion; // versiunea listei inainte si dupa operatie
+
+        Op(byte kind, int index, int count) {
+            this.kind = kind;
+            this.index = index;
+            this.count = count;
+        }
+
+        int weight() { // cat conteaza pentru maxElements
+            return (kind == REMOVE) ? 1 : count;
+        }
+
+        void appendValues(Object[] src, int from, int n) {
+            if(values.length - count < n) values = Arrays.copyOf(values, MyArrayList.MyNewLength(values.length, count + n - values.length, values.length >> 1));
+            System.arraycopy(src, from, values, count, n);
+            count += n;
+        }
+    }
+
+    // Schimbarile de la versiunea fromVersion la toVersion, de aplicat cu MyArrayList.applyDelta
+    public static final class Delta implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final long fromVersion, toVersion;
+        private final Op[] ops;
+
+        Delta(long fromVersion, long toVersion, Op[] ops) {
+            this.fromVersion = fromVersion;
+            this.toVersion = toVersion;
+            this.ops = ops;
+        }
+
+        public long fromVersion() {
+            return fromVersion;
+        }
+
+        public long toVersion() {
+            return toVersion;
+        }
+
+        public int operations() {
+            return ops.length;
+        }
+
+        Op[] ops() {
+            return ops;
+        }
+
+        public String toString() {
+            return "Delta[" + fromVersion + " -> " + toVersion + ", " + ops.length + " operatii]";
+        }
+    }
+
+    private final ArrayDeque<Op> ops = new ArrayDeque<>();
+    private final int maxElements;
+    private int elements; // suma weight() pe ops
+    private long version;
+    private long oldest; // cea mai veche versiune de la care inca putem da delta
+    private boolean sealed; // ultima operatie a fost vazuta din afara (version / deltaSince), nu mai lipim nimic la ea
+    boolean muted; // applyDelta scrie singur operatiile primite
+
+    // Constructore
+    MyChangeLog(int maxElements, long version) {
+        if(maxElements <= 0) throw new IllegalArgumentException("maxElements gresit: " + maxElements);
+        this.maxElements = maxElements;
+        this.version = this.oldest = version;
+    }
+
+    //Metode
+    long version() {
+        sealed = true;
+        return version;
+    }
+
+    private Op last() {
+        return (sealed || ops.isEmpty()) ? null : ops.peekLast();
+    }
+
+    private void push(Op op) {
+        op.startVersion = version;
+        op.endVersion = ++version;
+        ops.addLast(op);
+        sealed = false;
+        elements += op.weight();
+        trim();
+    }
+
+    private void extended(Op op, int weightBefore) { // ultima operatie a crescut (lipire)
+        op.endVersion = ++version;
+        elements += op.weight() - weightBefore;
+        trim();
+    }
+
+    private void trim() { // aruncam operatii vechi pana incape in maxElements (ultima ramane mereu)
+        while(elements > maxElements && ops.size() > 1) {
+            Op old = ops.pollFirst();
+            elements -= old.weight();
+            oldest = old.endVersion;
+        }
+    }
+
+    void insert(int index, Object value) { // add(e): de obicei doar se lipeste la INSERT-ul de la sfarsit, fara array temporar
+        if(muted) return;
+        Op l = last();
+        if(l != null && l.kind == INSERT && l.index + l.count == index) {
+            if(l.count == l.values.length) l.values = Arrays.copyOf(l.values, MyArrayList.MyNewLength(l.count, 1, l.count >> 1));
+            l.values[l.count++] = value;
+            extended(l, l.count - 1);
+            return;
+        }
+        insert(index, new Object[] {value}, 1);
+    }
+
+    void insert(int index, Object[] src, int n) { // src poate fi elementData, se copiaza
+        if(muted || n == 0) return;
+        Op l = last();
+        if(l != null && l.kind == INSERT && l.index + l.count == index) { // continua blocul inserat
+            int w = l.weight();
+            l.appendValues(src, 0, n);
+            extended(l, w);
+            return;
+        }
+        Op op = new Op(INSERT, index, 0);
+        op.values = new Object[Math.max(n, 4)];
+        op.appendValues(src, 0, n);
+        push(op);
+    }
+
+    void remove(int fromIndex, int toIndex) {
+        if(muted || fromIndex >= toIndex) return;
+        Op l = last();
+        if(l != null && l.kind == REMOVE && (l.index == fromIndex || l.index == toIndex)) { // remove(i) repetat, sau de la coada spre inceput
+            l.index = fromIndex;
+            l.count += toIndex - fromIndex;
+            extended(l, 1);
+            return;
+        }
+        push(new Op(REMOVE, fromIndex, toIndex - fromIndex));
+    }
+
+    void removeAt(int[] positions) { // pozitii crescatoare, distincte
+        if(muted || positions.length == 0) return;
+        Op op = new Op(REMOVE_AT, 0, positions.length);
+        op.positions = positions;
+        push(op);
+    }
+
+    void set(int index, Object value) {
+        set(index, new Object[] {value}, 0, 1);
+    }
+
+    void set(int index, Object[] src, int from, int n) { // valorile noi de pe [index, index + n), din src[from..]
+        if(muted || n == 0) return;
+        Op l = last();
+        if(l != null && (l.kind == SET || l.kind == INSERT) && index >= l.index && index + n <= l.index + l.count) { // peste valori scrise chiar de ultima operatie
+            System.arraycopy(src, from, l.values, index - l.index, n);
+            extended(l, l.weight());
+            return;
+        }
+        if(l != null && l.kind == SET && l.index + l.count == index) {
+            int w = l.weight();
+            l.appendValues(src, from, n);
+            extended(l, w);
+            return;
+        }
+        Op op = new Op(SET, index, 0);
+        op.values = new Object[Math.max(n, 4)];
+        op.appendValues(src, from, n);
+        push(op);
+    }
+
+    Delta deltaSince(long since) { // null daca operatiile de dupa since au fost deja aruncate
+        if(since > version) throw new IllegalArgumentException("Versiunea " + since + " e din viitor, lista e la " + version);
+        sealed = true;
+        if(since < oldest) return null;
+        ArrayList<Op> out = new ArrayList<>();
+        Iterator<Op> it = ops.descendingIterator();
+        while(it.hasNext()) {
+            Op op = it.next();
+            if(op.endVersion <= since) break;
+            if(op.startVersion < since) return null; // since e in mijlocul unei operatii lipite (nu a venit din version / deltaSince)
+            out.add(op);
+        }
+        Collections.reverse(out);
+        return new Delta(since, version, out.toArray(new Op[0]));
+    }
+
+    void applied(Delta d) { // dupa ce applyDelta a aplicat operatiile, le tinem si aici (replica poate fi sursa pentru alta replica)
+        for(Op op : d.ops()) {
+            ops.addLast(op);
+            elements += op.weight();
+        }
+        version = d.toVersion();
+        sealed = true;
+        trim();
+    }
+
+    MyChangeLog fork() { // jurnal gol la aceeasi versiune, pentru clone (copia e o replica sincronizata)
+        return new MyChangeLog(maxElements, version());
+    }
+
+    void truncate(long upTo) { // operatiile pana la upTo nu mai trebuie nimanui
+        while(ops.size() > 0 && ops.peekFirst().endVersion <= upTo) {
+            Op old = ops.pollFirst();
+            elements -= old.weight();
+            oldest = old.endVersion;
+        }
+    }
+}
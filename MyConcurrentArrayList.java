@@ -0,0 +1,550 @@
+package Collections;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.*;
+
+// Varianta thread-safe a MyArrayList: acelasi elementData + size si aceeasi politica de crestere (MyNewLength),
+// dar in loc de un monitor (Collections.synchronizedList) foloseste un StampedLock.
+// Citirile (get, size, indexOf, contains, toArray) incearca intai o citire optimista: citesc fara lock si verifica
+// la sfarsit (validate) ca nu a scris nimeni intre timp; doar daca a scris cineva mai citesc o data cu readLock.
+// Scrierile iau writeLock, iar operatiile in bloc (addAll, removeIf, removeAll, replaceAll, sort) il iau o singura data.
+// Iteratorii, forEach, equals, hashCode si toString lucreaza pe o copie (snapshot) facuta intr-o singura citire,
+// deci nu arunca ConcurrentModificationException si nu vad schimbarile facute dupa ce au pornit. Iteratorii nu pot modifica lista.
+// subList e cel din AbstractList: fiecare operatie pe ea ia lock-ul separat, deci o sublista nu e sigura daca lista e schimbata din alt thread.
+public class MyConcurrentArrayList<T> extends AbstractList<T> implements List<T>, RandomAccess {
+
+    // Variabile
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final Object[] EMPTY_ELEMENTDATA = {};
+    private static final Object[] DEFAULTCAPACITY_EMPTY_ELEMENTDATA = {};
+
+    private Object[] elementData; // scris doar sub writeLock
+    private int size; // scris doar sub writeLock
+    private final StampedLock lock = new StampedLock();
+
+    // Constructore
+    MyConcurrentArrayList(int initialCapacity) {
+        if(initialCapacity > 0) {
+            elementData = new Object[initialCapacity];
+        } else if(initialCapacity == 0) {
+            elementData = EMPTY_ELEMENTDATA;
+        } else {
+            throw new IllegalArgumentException("Capacitatea gresita: " + initialCapacity);
+        }
+    }
+
+    MyConcurrentArrayList() {
+        elementData = DEFAULTCAPACITY_EMPTY_ELEMENTDATA;
+    }
+
+    MyConcurrentArrayList(Collection<? extends T> c) {
+        Object[] _obj = c.toArray();
+        if((size = _obj.length) != 0) {
+            elementData = Arrays.copyOf(_obj, size, Object[].class);
+        } else {
+            elementData = EMPTY_ELEMENTDATA;
+        }
+    }
+
+    //Metode
+    private Object[] grow(int minCapacity) { // doar sub writeLock
+        int oldCapacity = elementData.length;
+        if(oldCapacity > 0 || elementData != DEFAULTCAPACITY_EMPTY_ELEMENTDATA) {
+            int newCapacity = MyArrayList.MyNewLength(oldCapacity, minCapacity - oldCapacity, oldCapacity >> 1);
+            return elementData = Arrays.copyOf(elementData, newCapacity);
+        } else {
+            return elementData = new Object[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+    }
+
+    public void trimToSize() {
+        long stamp = lock.writeLock();
+        try {
+            modCount++;
+            if(size < elementData.length) {
+                elementData = (size == 0) ? EMPTY_ELEMENTDATA : Arrays.copyOf(elementData, size);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        long stamp = lock.writeLock();
+        try {
+            if (minCapacity > elementData.length && !(elementData == DEFAULTCAPACITY_EMPTY_ELEMENTDATA && minCapacity <= DEFAULT_CAPACITY)) {
+                modCount++;
+                grow(minCapacity);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Citiri. In modul optimist elementData si size pot fi dintr-o stare pe jumatate scrisa (de ex. size nou cu array vechi),
+    // de aceea se citesc o singura data in variabile locale, indexurile se limiteaza la a.length,
+    // si nimic din ce s-a citit nu se foloseste pana nu trece validate.
+
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int s = size;
+        if(lock.validate(stamp)) return s;
+        stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        Object[] a = elementData;
+        int s = size;
+        Object e = (index >= 0 && index < s && index < a.length) ? a[index] : null;
+        if(lock.validate(stamp)) {
+            Objects.checkIndex(index, s);
+            return (T) e;
+        }
+        stamp = lock.readLock();
+        try {
+            Objects.checkIndex(index, size);
+            return (T) elementData[index];
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public T getFirst() {
+        long stamp = lock.readLock(); // rar folosit, nu merita varianta optimista
+        try {
+            if(size == 0) throw new NoSuchElementException();
+            return MyArrayList.elementAt(elementData, 0);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public T getLast() {
+        long stamp = lock.readLock();
+        try {
+            if(size == 0) throw new NoSuchElementException();
+            return MyArrayList.elementAt(elementData, size - 1);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static int indexOfRange(Object obj, Object[] a, int end) {
+        if(obj == null) {
+            for(int i = 0; i < end; i++) {
+                if(a[i] == null) return i;
+            }
+        } else {
+            for(int i = 0; i < end; i++) {
+                if(obj.equals(a[i])) return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOfRange(Object obj, Object[] a, int end) {
+        if(obj == null) {
+            for(int i = end - 1; i >= 0; i--) {
+                if(a[i] == null) return i;
+            }
+        } else {
+            for(int i = end - 1; i >= 0; i--) {
+                if(obj.equals(a[i])) return i;
+            }
+        }
+        return -1;
+    }
+
+    public int indexOf(Object obj) { // equals se poate apela si pe elemente deja scoase din lista; daca citirea optimista esueaza (si daca equals arunca), se cauta din nou sub readLock
+        long stamp = lock.tryOptimisticRead();
+        if(stamp != 0L) {
+            try {
+                Object[] a = elementData;
+                int i = indexOfRange(obj, a, Math.min(size, a.length));
+                if(lock.validate(stamp)) return i;
+            } catch (RuntimeException e) { // equals a vazut elemente scrise pe jumatate; exceptia conteaza doar daca nu a scris nimeni intre timp
+                if(lock.validate(stamp)) throw e;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return indexOfRange(obj, elementData, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int lastIndexOf(Object obj) {
+        long stamp = lock.tryOptimisticRead();
+        if(stamp != 0L) {
+            try {
+                Object[] a = elementData;
+                int i = lastIndexOfRange(obj, a, Math.min(size, a.length));
+                if(lock.validate(stamp)) return i;
+            } catch (RuntimeException e) { // equals a vazut elemente scrise pe jumatate; exceptia conteaza doar daca nu a scris nimeni intre timp
+                if(lock.validate(stamp)) throw e;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return lastIndexOfRange(obj, elementData, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean contains(Object obj) {
+        return indexOf(obj) >= 0;
+    }
+
+    public Object[] toArray() { // snapshot: copia e a noastra, lista poate fi schimbata imediat dupa
+        long stamp = lock.tryOptimisticRead();
+        if(stamp != 0L) {
+            Object[] a = elementData;
+            Object[] copy = Arrays.copyOf(a, Math.min(size, a.length));
+            if(lock.validate(stamp)) return copy;
+        }
+        stamp = lock.readLock();
+        try {
+            return Arrays.copyOf(elementData, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <U> U[] toArray(U[] arr) {
+        Object[] snapshot = toArray();
+        int s = snapshot.length;
+        if(arr.length < s) return (U[]) Arrays.copyOf(snapshot, s, arr.getClass());
+        System.arraycopy(snapshot, 0, arr, 0, s);
+        if(arr.length > s) arr[s] = null;
+        return arr;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> snapshot() { // lista fixa peste o copie, pentru iteratori si operatiile ce parcurg toata lista
+        return (List<T>) Arrays.asList(toArray());
+    }
+
+    public Iterator<T> iterator() {
+        return listIterator(0);
+    }
+
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    public ListIterator<T> listIterator(int index) { // iterator pe snapshot; set / add / remove arunca UnsupportedOperationException
+        return Collections.unmodifiableList(snapshot()).listIterator(index);
+    }
+
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(toArray(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    public void forEach(Consumer<? super T> action) { // actiunea ruleaza fara lock, pe snapshot
+        Objects.requireNonNull(action);
+        final Object[] a = toArray();
+        for(int i = 0; i < a.length; i++) action.accept(MyArrayList.elementAt(a, i));
+    }
+
+    public boolean equals(Object obj) {
+        if(obj == this) return true;
+        if(!(obj instanceof List)) return false;
+        if(obj instanceof MyConcurrentArrayList<?> other) return snapshot().equals(other.snapshot()); // nu tinem doua lock-uri deodata
+        return snapshot().equals(obj);
+    }
+
+    public int hashCode() {
+        return snapshot().hashCode();
+    }
+
+    public String toString() {
+        return snapshot().toString();
+    }
+
+    // Scrieri, toate sub writeLock
+
+    public T set(int index, T element) {
+        long stamp = lock.writeLock();
+        try {
+            Objects.checkIndex(index, size);
+            T oldValue = MyArrayList.elementAt(elementData, index);
+            elementData[index] = element;
+            return oldValue;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean add(T e) {
+        long stamp = lock.writeLock();
+        try {
+            modCount++;
+            final int s = size;
+            Object[] elementData = this.elementData;
+            if(s == elementData.length) elementData = grow(s + 1);
+            elementData[s] = e;
+            size = s + 1;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void add(int index, T element) {
+        long stamp = lock.writeLock();
+        try {
+            rangeCheckForAdd(index);
+            modCount++;
+            final int s = size;
+            Object[] elementData = this.elementData;
+            if(s == elementData.length) elementData = grow(s + 1);
+            System.arraycopy(elementData, index, elementData, index + 1, s - index);
+            elementData[index] = element;
+            size = s + 1;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void addFirst(T element) {
+        add(0, element);
+    }
+
+    public void addLast(T element) {
+        add(element);
+    }
+
+    public boolean addIfAbsent(T e) { // contains + add atomic, ce nu se poate face din afara fara lock extern
+        long stamp = lock.writeLock();
+        try {
+            if(indexOfRange(e, elementData, size) >= 0) return false;
+            modCount++;
+            final int s = size;
+            Object[] elementData = this.elementData;
+            if(s == elementData.length) elementData = grow(s + 1);
+            elementData[s] = e;
+            size = s + 1;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if(index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Dimeansiunea: " + size);
+        }
+    }
+
+    private void fastRemove(Object[] temp, int i) { // doar sub writeLock
+        modCount++;
+        final int newSize = size - 1;
+        if(newSize > i) System.arraycopy(temp, i + 1, temp, i, newSize - i);
+        temp[size = newSize] = null;
+    }
+
+    public T remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            Objects.checkIndex(index, size);
+            final Object[] temp = elementData;
+            T oldValue = MyArrayList.elementAt(temp, index);
+            fastRemove(temp, index);
+            return oldValue;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public T removeFirst() {
+        long stamp = lock.writeLock();
+        try {
+            if(size == 0) throw new NoSuchElementException();
+            final Object[] temp = elementData;
+            T oldValue = MyArrayList.elementAt(temp, 0);
+            fastRemove(temp, 0);
+            return oldValue;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public T removeLast() {
+        long stamp = lock.writeLock();
+        try {
+            if(size == 0) throw new NoSuchElementException();
+            final Object[] temp = elementData;
+            T oldValue = MyArrayList.elementAt(temp, size - 1);
+            fastRemove(temp, size - 1);
+            return oldValue;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean remove(Object obj) {
+        long stamp = lock.writeLock();
+        try {
+            final Object[] temp = elementData;
+            int i = indexOfRange(obj, temp, size);
+            if(i < 0) return false;
+            fastRemove(temp, i);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            modCount++;
+            Arrays.fill(elementData, 0, size, null);
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean addAll(Collection<? extends T> c) { // c.toArray() se face inainte de lock, ca sa nu tinem scriitorii pe loc cat copiem din c
+        Object[] arr = c.toArray();
+        int numNew = arr.length;
+        if(numNew == 0) return false;
+        long stamp = lock.writeLock();
+        try {
+            modCount++;
+            Object[] elementData = this.elementData;
+            final int s = size;
+            if(numNew > elementData.length - s) elementData = grow(s + numNew);
+            System.arraycopy(arr, 0, elementData, s, numNew);
+            size = s + numNew;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean addAll(int index, Collection<? extends T> c) {
+        Object[] arr = c.toArray();
+        long stamp = lock.writeLock();
+        try {
+            rangeCheckForAdd(index);
+            modCount++;
+            int numNew = arr.length;
+            if(numNew == 0) return false;
+            Object[] elementData = this.elementData;
+            final int s = size;
+            if(numNew > elementData.length - s) elementData = grow(s + numNew);
+            int numMoved = s - index;
+            if(numMoved > 0) System.arraycopy(elementData, index, elementData, index + numNew, numMoved);
+            System.arraycopy(arr, 0, elementData, index, numNew);
+            size = s + numNew;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    protected void removeRange(int fromIndex, int toIndex) {
+        long stamp = lock.writeLock();
+        try {
+            if(fromIndex < 0 || fromIndex > toIndex || toIndex > size) {
+                throw new IndexOutOfBoundsException("Din Index: " + fromIndex + ", Pana Index: " + toIndex + ", Dimeansiunea: " + size);
+            }
+            modCount++;
+            shiftTailOverGap(elementData, fromIndex, toIndex);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void shiftTailOverGap(Object[] temp, int fromIndex, int toIndex) { // doar sub writeLock
+        System.arraycopy(temp, toIndex, temp, fromIndex, size - toIndex);
+        for(int to = size, i = (size -= toIndex - fromIndex); i < to; i++) temp[i] = null;
+    }
+
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(containsSnapshot(c)::contains);
+    }
+
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        Collection<?> fast = containsSnapshot(c);
+        return removeIf(e -> !fast.contains(e));
+    }
+
+    private Collection<?> containsSnapshot(Collection<?> c) { // contains se apeleaza sub writeLock: daca c e chiar lista sau o vedere peste ea (subList),
+        if(c instanceof Set || c instanceof MySortedArrayList || c instanceof MyDictionaryArrayList // c.contains -> indexOf -> readLock s-ar bloca pe el insusi (StampedLock nu e reentrant)
+                || (c instanceof MyArrayList<?> l && l.isHashIndexed())) return c; // au contains propriu (comparator, index) si nu ating lock-ul nostru
+        boolean equalsOnly = c == this || MyArrayList.linearEqualsContains(c);
+        Object[] a = c.toArray(); // inca fara lock
+        return (a.length < MyArrayList.BATCH_HASH_THRESHOLD || !equalsOnly) ? Arrays.asList(a) : new HashSet<>(Arrays.asList(a));
+    }
+
+    public boolean removeIf(Predicate<? super T> filter) { // deathRow ca in MyArrayList; filtrul ruleaza sub writeLock, deci nu are voie sa atinga lista
+        Objects.requireNonNull(filter);
+        long stamp = lock.writeLock();
+        try {
+            final Object[] temp = elementData;
+            final int end = size;
+            int i = 0;
+            for(; i < end && !filter.test(MyArrayList.elementAt(temp, i)); i++);
+            if(i == end) return false;
+            final int beg = i;
+            final long[] deathRow = MyArrayList.nBits(end - beg);
+            deathRow[0] = 1L;
+            for(i = beg + 1; i < end; i++) {
+                if(filter.test(MyArrayList.elementAt(temp, i))) MyArrayList.setBit(deathRow, i - beg);
+            }
+            modCount++;
+            int w = beg;
+            for(i = beg; i < end; i++) {
+                if(MyArrayList.isClear(deathRow, i - beg)) temp[w++] = temp[i];
+            }
+            shiftTailOverGap(temp, w, end);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        long stamp = lock.writeLock();
+        try {
+            final Object[] temp = elementData;
+            for(int i = 0, end = size; i < end; i++) temp[i] = operator.apply(MyArrayList.elementAt(temp, i));
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> c) {
+        long stamp = lock.writeLock();
+        try {
+            Arrays.sort((T[]) elementData, 0, size, c);
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+}
@@ -0,0 +1,437 @@
+package Collections;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.*;
+
+// Varianta copy-on-write: elementele stau intr-un array de exact size elemente care, odata publicat, nu se mai schimba.
+// Citirile (get, size, iteratori, spliterator, forEach) citesc o singura data campul volatile si lucreaza pe acel array,
+// fara lock si fara ConcurrentModificationException. Fiecare scriere face o copie noua si o publica cu o singura scriere volatile;
+// scriitorii se asteapta unul pe altul pe un monitor.
+// Pentru multe scrieri deodata e mutate(...): toate se fac pe o singura copie privata (un MyArrayList), publicata o data la sfarsit.
+// Din batch (si din filtrul lui removeIf, operatorul lui replaceAll, comparatorul lui sort) lista insasi nu se poate schimba:
+// orice scriere de acolo arunca IllegalStateException, altfel ar fi pierduta la publicare.
+// subList e cel din AbstractList si nu e sigur daca lista e schimbata din alt thread.
+public class MyCopyOnWriteArrayList<T> extends AbstractList<T> implements List<T>, RandomAccess {
+
+    // Variabile
+    private static final Object[] EMPTY_ELEMENTDATA = {};
+
+    private volatile Object[] elementData; // nu se modifica dupa publicare, elementData.length == size
+    private final Object lock = new Object(); // doar pentru scriitori
+
+    // Constructore
+    MyCopyOnWriteArrayList() {
+        elementData = EMPTY_ELEMENTDATA;
+    }
+
+    MyCopyOnWriteArrayList(Collection<? extends T> c) {
+        Object[] _obj = c.toArray();
+        elementData = (_obj.length == 0) ? EMPTY_ELEMENTDATA : Arrays.copyOf(_obj, _obj.length, Object[].class);
+    }
+
+    //Metode
+    @SuppressWarnings("unchecked")
+    public List<T> snapshot() { // lista imutabila peste starea de acum, fara copie
+        return Collections.unmodifiableList(Arrays.asList((T[]) elementData));
+    }
+
+    public void mutate(Consumer<MyArrayList<T>> batch) { // toate schimbarile din batch devin vizibile deodata, sau deloc daca batch arunca exceptie; batch scrie doar in lista primita
+        Objects.requireNonNull(batch);
+        checkNotReentrant();
+        synchronized(lock) {
+            Object[] a = elementData;
+            MyArrayList<T> work = MyArrayList.adopt(Arrays.copyOf(a, a.length));
+            batch.accept(work);
+            publish(work.detach()); // dupa detach lista de lucru e goala, chiar daca batch a pastrat o referinta la ea
+        }
+    }
+
+    private void checkNotReentrant() { // monitorul e reentrant: o scriere facuta din batch / filtru / operator / comparator ar fi suprascrisa de publicarea de la sfarsit
+        if(Thread.holdsLock(lock)) throw new IllegalStateException("Lista nu se poate schimba din interiorul unei scrieri (in mutate se scrie in lista primita)");
+    }
+
+    private void publish(Object[] a) { // doar sub lock
+        elementData = (a.length == 0) ? EMPTY_ELEMENTDATA : a;
+        modCount++;
+    }
+
+    // Citiri
+
+    public int size() {
+        return elementData.length;
+    }
+
+    public boolean isEmpty() {
+        return elementData.length == 0;
+    }
+
+    public T get(int index) {
+        return MyArrayList.elementAt(elementData, index); // ArrayIndexOutOfBoundsException e deja IndexOutOfBoundsException
+    }
+
+    public T getFirst() {
+        Object[] a = elementData;
+        if(a.length == 0) throw new NoSuchElementException();
+        return MyArrayList.elementAt(a, 0);
+    }
+
+    public T getLast() {
+        Object[] a = elementData;
+        if(a.length == 0) throw new NoSuchElementException();
+        return MyArrayList.elementAt(a, a.length - 1);
+    }
+
+    private static int indexOfRange(Object obj, Object[] a, int start, int end) {
+        if(obj == null) {
+            for(int i = start; i < end; i++) {
+                if(a[i] == null) return i;
+            }
+        } else {
+            for(int i = start; i < end; i++) {
+                if(obj.equals(a[i])) return i;
+            }
+        }
+        return -1;
+    }
+
+    public int indexOf(Object obj) {
+        Object[] a = elementData;
+        return indexOfRange(obj, a, 0, a.length);
+    }
+
+    public int lastIndexOf(Object obj) {
+        Object[] a = elementData;
+        if(obj == null) {
+            for(int i = a.length - 1; i >= 0; i--) {
+                if(a[i] == null) return i;
+            }
+        } else {
+            for(int i = a.length - 1; i >= 0; i--) {
+                if(obj.equals(a[i])) return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(Object obj) {
+        return indexOf(obj) >= 0;
+    }
+
+    public Object[] toArray() {
+        return elementData.clone();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <U> U[] toArray(U[] arr) {
+        Object[] a = elementData;
+        if(arr.length < a.length) return (U[]) Arrays.copyOf(a, a.length, arr.getClass());
+        System.arraycopy(a, 0, arr, 0, a.length);
+        if(arr.length > a.length) arr[a.length] = null;
+        return arr;
+    }
+
+    public Iterator<T> iterator() {
+        return new Itr<>(elementData, 0);
+    }
+
+    public ListIterator<T> listIterator() {
+        return new Itr<>(elementData, 0);
+    }
+
+    public ListIterator<T> listIterator(int index) {
+        Object[] a = elementData;
+        if(index < 0 || index > a.length) throw new IndexOutOfBoundsException("Index: " + index + ", Dimeansiunea: " + a.length);
+        return new Itr<>(a, index);
+    }
+
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(elementData, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        final Object[] a = elementData;
+        for(int i = 0; i < a.length; i++) action.accept(MyArrayList.elementAt(a, i));
+    }
+
+    public int hashCode() {
+        int hash = 1;
+        for(Object e : elementData) hash = 31 * hash + Objects.hashCode(e);
+        return hash;
+    }
+
+    private static final class Itr<T> implements ListIterator<T> { // iterator pe array-ul din momentul crearii; nu poate modifica lista
+        private final Object[] snapshot;
+        private int cursor;
+
+        Itr(Object[] snapshot, int cursor) {
+            this.snapshot = snapshot;
+            this.cursor = cursor;
+        }
+
+        public boolean hasNext() {
+            return cursor < snapshot.length;
+        }
+
+        public T next() {
+            if(cursor >= snapshot.length) throw new NoSuchElementException();
+            return MyArrayList.elementAt(snapshot, cursor++);
+        }
+
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        public T previous() {
+            if(cursor <= 0) throw new NoSuchElementException();
+            return MyArrayList.elementAt(snapshot, --cursor);
+        }
+
+        public int nextIndex() {
+            return cursor;
+        }
+
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            final Object[] a = snapshot;
+            for(int i = cursor; i < a.length; i++) action.accept(MyArrayList.elementAt(a, i));
+            cursor = a.length;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public void set(T e) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void add(T e) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    // Scrieri: fiecare face o copie si o publica
+
+    public T set(int index, T element) {
+        checkNotReentrant();
+        synchronized(lock) {
+            Object[] a = elementData;
+            T oldValue = MyArrayList.elementAt(a, index);
+            if(oldValue != element) { // aceeasi referinta -> nu copiem degeaba
+                a = a.clone();
+                a[index] = element;
+            }
+            publish(a);
+            return oldValue;
+        }
+    }
+
+    public boolean add(T e) {
+        checkNotReentrant();
+        synchronized(lock) {
+            Object[] a = elementData;
+            Object[] b = Arrays.copyOf(a, a.length + 1);
+            b[a.length] = e;
+            publish(b);
+            return true;
+        }
+    }
+
+    public void add(int index, T element) {
+        checkNotReentrant();
+        synchronized(lock) {
+            Object[] a = elementData;
+            if(index > a.length || index < 0) throw new IndexOutOfBoundsException("Index: " + index + ", Dimeansiunea: " + a.length);
+            Object[] b = new Object[a.length + 1];
+            System.arraycopy(a, 0, b, 0, index);
+            System.arraycopy(a, index, b, index + 1, a.length - index);
+            b[index] = element;
+            publish(b);
+        }
+    }
+
+    public void addFirst(T element) {
+        add(0, element);
+    }
+
+    public void addLast(T element) {
+        add(element);
+    }
+
+    public boolean addIfAbsent(T e) {
+        Object[] a = elementData;
+        if(indexOfRange(e, a, 0, a.length) >= 0) return false; // verificare fara lock, de cele mai multe ori ajunge
+        checkNotReentrant();
+        synchronized(lock) {
+            Object[] current = elementData;
+            if(current != a && indexOfRange(e, current, 0, current.length) >= 0) return false;
+            Object[] b = Arrays.copyOf(current, current.length + 1);
+            b[current.length] = e;
+            publish(b);
+            return true;
+        }
+    }
+
+    private Object[] without(Object[] a, int index) { // copie fara elementul de pe index
+        Object[] b = new Object[a.length - 1];
+        System.arraycopy(a, 0, b, 0, index);
+        System.arraycopy(a, index + 1, b, index, a.length - index - 1);
+        return b;
+    }
+
+    public T remove(int index) {
+        checkNotReentrant();
+        synchronized(lock) {
+            return removeAt(elementData, index);
+        }
+    }
+
+    public T removeFirst() {
+        checkNotReentrant();
+        synchronized(lock) {
+            Object[] a = elementData;
+            if(a.length == 0) throw new NoSuchElementException();
+            return removeAt(a, 0);
+        }
+    }
+
+    public T removeLast() {
+        checkNotReentrant();
+        synchronized(lock) {
+            Object[] a = elementData;
+            if(a.length == 0) throw new NoSuchElementException();
+            return removeAt(a, a.length - 1);
+        }
+    }
+
+    private T removeAt(Object[] a, int index) { // doar sub lock, a e elementData de acum
+        T oldValue = MyArrayList.elementAt(a, index);
+        publish(without(a, index));
+        return oldValue;
+    }
+
+    public boolean remove(Object obj) {
+        Object[] a = elementData;
+        if(indexOfRange(obj, a, 0, a.length) < 0) return false; // nu luam lock-ul daca oricum nu e
+        checkNotReentrant();
+        synchronized(lock) {
+            Object[] current = elementData;
+            int i = indexOfRange(obj, current, 0, current.length);
+            if(i < 0) return false;
+            publish(without(current, i));
+            return true;
+        }
+    }
+
+    public void clear() {
+        checkNotReentrant();
+        synchronized(lock) {
+            publish(EMPTY_ELEMENTDATA);
+        }
+    }
+
+    public boolean addAll(Collection<? extends T> c) {
+        Object[] arr = c.toArray();
+        if(arr.length == 0) return false;
+        checkNotReentrant();
+        synchronized(lock) {
+            Object[] a = elementData;
+            Object[] b = Arrays.copyOf(a, a.length + arr.length);
+            System.arraycopy(arr, 0, b, a.length, arr.length);
+            publish(b);
+            return true;
+        }
+    }
+
+    public boolean addAll(int index, Collection<? extends T> c) {
+        Object[] arr = c.toArray();
+        checkNotReentrant();
+        synchronized(lock) {
+            Object[] a = elementData;
+            if(index > a.length || index < 0) throw new IndexOutOfBoundsException("Index: " + index + ", Dimeansiunea: " + a.length);
+            if(arr.length == 0) return false;
+            Object[] b = new Object[a.length + arr.length];
+            System.arraycopy(a, 0, b, 0, index);
+            System.arraycopy(arr, 0, b, index, arr.length);
+            System.arraycopy(a, index, b, index + arr.length, a.length - index);
+            publish(b);
+            return true;
+        }
+    }
+
+    protected void removeRange(int fromIndex, int toIndex) {
+        checkNotReentrant();
+        synchronized(lock) {
+            Object[] a = elementData;
+            if(fromIndex < 0 || fromIndex > toIndex || toIndex > a.length) {
+                throw new IndexOutOfBoundsException("Din Index: " + fromIndex + ", Pana Index: " + toIndex + ", Dimeansiunea: " + a.length);
+            }
+            Object[] b = new Object[a.length - (toIndex - fromIndex)];
+            System.arraycopy(a, 0, b, 0, fromIndex);
+            System.arraycopy(a, toIndex, b, fromIndex, a.length - toIndex);
+            publish(b);
+        }
+    }
+
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        Collection<?> fast = MyArrayList.fastContains(c, size());
+        return removeIf(fast::contains);
+    }
+
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        Collection<?> fast = MyArrayList.fastContains(c, size());
+        return removeIf(e -> !fast.contains(e));
+    }
+
+    public boolean removeIf(Predicate<? super T> filter) { // deathRow ca in MyArrayList, apoi o singura copie cu elementele ramase
+        Objects.requireNonNull(filter);
+        checkNotReentrant();
+        synchronized(lock) {
+            final Object[] a = elementData;
+            long[] deathRow = null;
+            int removed = 0;
+            for(int i = 0; i < a.length; i++) {
+                if(filter.test(MyArrayList.elementAt(a, i))) {
+                    if(deathRow == null) deathRow = MyArrayList.nBits(a.length);
+                    MyArrayList.setBit(deathRow, i);
+                    removed++;
+                }
+            }
+            if(removed == 0) return false;
+            Object[] b = new Object[a.length - removed];
+            for(int i = 0, w = 0; i < a.length; i++) {
+                if(MyArrayList.isClear(deathRow, i)) b[w++] = a[i];
+            }
+            publish(b);
+            return true;
+        }
+    }
+
+    public void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        checkNotReentrant();
+        synchronized(lock) {
+            Object[] b = elementData.clone();
+            for(int i = 0; i < b.length; i++) b[i] = operator.apply(MyArrayList.elementAt(b, i));
+            publish(b);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> c) {
+        checkNotReentrant();
+        synchronized(lock) {
+            Object[] b = elementData.clone();
+            Arrays.sort((T[]) b, c);
+            publish(b);
+        }
+    }
+}
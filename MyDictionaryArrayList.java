@@ -0,0 +1,299 @@
+package Collections;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.*;
+
+// Lista pentru multe elemente dar putine valori distincte (statusuri, coduri de tara): fiecare valoare noua primeste un cod
+// in dictionar (values + map), iar in lista stau doar codurile, intr-un byte[] (pana la 256 de valori), short[] (pana la 65536)
+// sau int[]; cand dictionarul trece de limita, array-ul de coduri se latete singur (o copie, o singura data pe prag).
+// get decodeaza prin values[cod]; indexOf / contains cauta o data valoarea in dictionar si apoi doar coduri,
+// iar removeIf evalueaza predicatul o data pe valoare distincta (deci trebuie sa depinda doar de valoare, nu de pozitie).
+// Dictionarul nu scade la remove: o valoare ramasa fara elemente isi pastreaza codul (clear si compact() il curata).
+// Valorile se compara prin hashCode / equals (ca intr-un HashMap), null e permis.
+public class MyDictionaryArrayList<T> extends AbstractList<T> implements List<T>, RandomAccess, Cloneable {
+
+    // Variabile
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final byte[] EMPTY_CODES = {};
+
+    private Object codes; // byte[], short[] sau int[], dupa cate valori are dictionarul
+    private int size;
+    private Object[] values = new Object[16]; // cod -> valoare
+    private int cardinality; // cate coduri sunt date
+    private HashMap<Object, Integer> dictionary = new HashMap<>(); // valoare -> cod
+
+    // Constructore
+    MyDictionaryArrayList() {
+        codes = EMPTY_CODES;
+    }
+
+    MyDictionaryArrayList(Collection<? extends T> c) {
+        codes = new byte[c.size()];
+        for(T e : c) add(e);
+    }
+
+    //Metode
+    public int cardinality() { // cate valori distincte are dictionarul
+        return cardinality;
+    }
+
+    public int codeWidth() { // octeti pe element: 1, 2 sau 4
+        return (codes instanceof byte[]) ? 1 : (codes instanceof short[]) ? 2 : 4;
+    }
+
+    private int capacity() {
+        return (codes instanceof byte[] b) ? b.length : (codes instanceof short[] s) ? s.length : ((int[]) codes).length;
+    }
+
+    private int code(int i) {
+        if(codes instanceof byte[] b) return b[i] & 0xFF;
+        if(codes instanceof short[] s) return s[i] & 0xFFFF;
+        return ((int[]) codes)[i];
+    }
+
+    private void setCode(int i, int c) {
+        if(codes instanceof byte[] b) b[i] = (byte) c;
+        else if(codes instanceof short[] s) s[i] = (short) c;
+        else ((int[]) codes)[i] = c;
+    }
+
+    private static Object newCodes(int width, int capacity) {
+        return (width == 1) ? new byte[capacity] : (width == 2) ? new short[capacity] : new int[capacity];
+    }
+
+    private void resize(int width, int capacity) { // copiaza codurile intr-un array nou (alta latime si / sau capacitate)
+        if(width == codeWidth()) {
+            Object a = newCodes(width, capacity);
+            System.arraycopy(codes, 0, a, 0, size);
+            codes = a;
+            return;
+        }
+        if(width == 2) {
+            short[] a = new short[capacity];
+            for(int i = 0; i < size; i++) a[i] = (short) code(i);
+            codes = a;
+        } else {
+            int[] a = new int[capacity];
+            for(int i = 0; i < size; i++) a[i] = code(i);
+            codes = a;
+        }
+    }
+
+    private void grow(int minCapacity) { // aceeasi politica ca in MyArrayList
+        int oldCapacity = capacity();
+        int newCapacity = (oldCapacity > 0) ? MyArrayList.MyNewLength(oldCapacity, minCapacity - oldCapacity, oldCapacity >> 1) : Math.max(DEFAULT_CAPACITY, minCapacity);
+        resize(codeWidth(), newCapacity);
+    }
+
+    private int encode(Object e) { // codul valorii, adaugata in dictionar daca e noua
+        Integer c = dictionary.get(e);
+        if(c != null) return c;
+        final int code = cardinality;
+        if(code == 1 << 8 || code == 1 << 16) resize(code == 1 << 8 ? 2 : 4, capacity()); // nu mai incape in latimea curenta
+        if(code == values.length) values = Arrays.copyOf(values, MyArrayList.MyNewLength(code, 1, code));
+        values[code] = e;
+        dictionary.put(e, code);
+        cardinality = code + 1;
+        return code;
+    }
+
+    private int lookup(Object o) { // codul valorii sau -1, fara sa o adauge
+        Integer c = dictionary.get(o);
+        return (c == null) ? -1 : c;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T decode(int c) {
+        return (T) values[c];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return decode(code(index));
+    }
+
+    public T set(int index, T element) {
+        Objects.checkIndex(index, size);
+        T old = decode(code(index));
+        setCode(index, encode(element)); // encode poate schimba codes, deci il apelam inainte de setCode
+        return old;
+    }
+
+    public boolean add(T e) { // la sfarsit, fara arraycopy
+        modCount++;
+        final int s = size;
+        int c = encode(e);
+        if(s == capacity()) grow(s + 1);
+        setCode(s, c);
+        size = s + 1;
+        return true;
+    }
+
+    public void add(int index, T element) {
+        final int s = size;
+        if(index < 0 || index > s) throw new IndexOutOfBoundsException("Index: " + index + ", Dimensiunea: " + s);
+        modCount++;
+        int c = encode(element);
+        if(s == capacity()) grow(s + 1);
+        System.arraycopy(codes, index, codes, index + 1, s - index);
+        setCode(index, c);
+        size = s + 1;
+    }
+
+    public T remove(int index) {
+        final int s = size;
+        Objects.checkIndex(index, s);
+        modCount++;
+        T old = decode(code(index));
+        System.arraycopy(codes, index + 1, codes, index, s - 1 - index);
+        size = s - 1;
+        return old;
+    }
+
+    public void clear() { // goleste si dictionarul
+        modCount++;
+        size = 0;
+        codes = EMPTY_CODES;
+        values = new Object[16];
+        cardinality = 0;
+        dictionary = new HashMap<>();
+    }
+
+    public void trimToSize() {
+        modCount++;
+        if(size < capacity()) resize(codeWidth(), size);
+    }
+
+    public int indexOf(Object o) { // un singur lookup in dictionar, apoi comparam coduri
+        final int c = lookup(o);
+        if(c < 0) return -1;
+        final int s = size;
+        if(codes instanceof byte[] b) {
+            final byte x = (byte) c;
+            for(int i = 0; i < s; i++) if(b[i] == x) return i;
+        } else if(codes instanceof short[] sh) {
+            final short x = (short) c;
+            for(int i = 0; i < s; i++) if(sh[i] == x) return i;
+        } else {
+            final int[] a = (int[]) codes;
+            for(int i = 0; i < s; i++) if(a[i] == c) return i;
+        }
+        return -1;
+    }
+
+    public int lastIndexOf(Object o) {
+        final int c = lookup(o);
+        if(c < 0) return -1;
+        for(int i = size - 1; i >= 0; i--) if(code(i) == c) return i;
+        return -1;
+    }
+
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    public int count(Object o) { // de cate ori apare valoarea
+        final int c = lookup(o);
+        if(c < 0) return 0;
+        int n = 0;
+        for(int i = 0, s = size; i < s; i++) if(code(i) == c) n++;
+        return n;
+    }
+
+    public boolean removeIf(Predicate<? super T> filter) { // predicatul se evalueaza o data pe valoare distincta, apoi compactare pe coduri
+        Objects.requireNonNull(filter);
+        final int expectedModCount = modCount;
+        final int s = size;
+        final byte[] verdict = new byte[cardinality]; // 0 - inca neevaluat, 1 - ramane, 2 - se sterge
+        boolean any = false;
+        for(int i = 0; i < s; i++) { // intai toate verdictele, ca daca predicatul arunca lista sa ramana neschimbata
+            int c = code(i);
+            if(verdict[c] == 0) {
+                boolean remove = filter.test(decode(c));
+                verdict[c] = remove ? (byte) 2 : (byte) 1;
+                any |= remove;
+            }
+        }
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        if(!any) return false;
+        modCount++;
+        int w = 0;
+        for(int i = 0; i < s; i++) {
+            int c = code(i);
+            if(verdict[c] == 1) setCode(w++, c);
+        }
+        size = w;
+        return true;
+    }
+
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(e -> !c.contains(e));
+    }
+
+    public void compact() { // scoate din dictionar valorile care nu mai apar si renumeroteaza codurile (poate si ingusta array-ul)
+        modCount++;
+        final int[] remap = new int[cardinality];
+        Arrays.fill(remap, -1);
+        Object[] kept = new Object[Math.max(16, cardinality)];
+        HashMap<Object, Integer> dict = new HashMap<>();
+        int n = 0;
+        int[] a = new int[size];
+        for(int i = 0; i < size; i++) {
+            int c = code(i);
+            if(remap[c] < 0) {
+                remap[c] = n;
+                kept[n] = values[c];
+                dict.put(values[c], n);
+                n++;
+            }
+            a[i] = remap[c];
+        }
+        values = kept;
+        dictionary = dict;
+        cardinality = n;
+        codes = newCodes(n <= 1 << 8 ? 1 : n <= 1 << 16 ? 2 : 4, size);
+        for(int i = 0; i < size; i++) setCode(i, a[i]);
+    }
+
+    public Object[] toArray() {
+        Object[] a = new Object[size];
+        for(int i = 0; i < a.length; i++) a[i] = values[code(i)];
+        return a;
+    }
+
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        for(int i = 0, s = size; i < s && modCount == expectedModCount; i++) action.accept(decode(code(i)));
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    @SuppressWarnings("unchecked")
+    public MyDictionaryArrayList<T> clone() { // copie cu dictionarul ei
+        try {
+            MyDictionaryArrayList<T> v = (MyDictionaryArrayList<T>) super.clone();
+            v.codes = newCodes(codeWidth(), size);
+            System.arraycopy(codes, 0, v.codes, 0, size);
+            v.values = values.clone();
+            v.dictionary = new HashMap<>(dictionary);
+            v.modCount = 0;
+            return v;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+}
@@ -0,0 +1,713 @@
+package Collections;
+import java.util.*;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+// Varianta MyArrayList pentru double: elementele stau direct in double[], fara Double si fara boxing la add/get/iterare/sortare
+public class MyDoubleArrayList implements RandomAccess, Cloneable {
+
+    // Variabile
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final double[] EMPTY_ELEMENTDATA = {}; // lista goala
+    private static final double[] DEFAULTCAPACITY_EMPTY_ELEMENTDATA = {}; // pentru liste ce nu au elemente
+
+    double[] elementData;
+    private int size; // numar elemente in lista
+    transient int modCount; // nu mai vine din AbstractList
+
+    // Constructore
+    MyDoubleArrayList(int initialCapacity) {
+        if(initialCapacity > 0) {
+            elementData = new double[initialCapacity];
+        } else if(initialCapacity == 0) {
+            elementData = EMPTY_ELEMENTDATA;
+        } else {
+            throw new IllegalArgumentException("Capacitatea gresita: " + initialCapacity);
+        }
+    }
+
+    MyDoubleArrayList() {
+        elementData = DEFAULTCAPACITY_EMPTY_ELEMENTDATA;
+    }
+
+    // values - elemente ce vor fi puse in lista (se copiaza)
+    static MyDoubleArrayList of(double... values) {
+        MyDoubleArrayList list = new MyDoubleArrayList(values.length);
+        System.arraycopy(values, 0, list.elementData, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    //Metode
+    public void trimToSize() { // Micsoreaza capacitatea pana la numarul de elemente
+        modCount++;
+        if(size < elementData.length) {
+            elementData = (size == 0) ? EMPTY_ELEMENTDATA : Arrays.copyOf(elementData, size);
+        }
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elementData.length && !(elementData == DEFAULTCAPACITY_EMPTY_ELEMENTDATA && minCapacity <= DEFAULT_CAPACITY)) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    private double[] grow(int minCapacity) { // aceeasi politica ca in MyArrayList (MyNewLength / MyHugeLength)
+        int oldCapacity = elementData.length;
+        if(oldCapacity > 0 || elementData != DEFAULTCAPACITY_EMPTY_ELEMENTDATA) {
+            int newCapacity = MyArrayList.MyNewLength(oldCapacity, minCapacity - oldCapacity, oldCapacity >> 1);
+            return elementData = Arrays.copyOf(elementData, newCapacity);
+        } else {
+            return elementData = new double[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+    }
+
+    private double[] grow() {
+        return grow(size + 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(double value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int indexOf(double value) {
+        return indexOfRange(value, 0, size);
+    }
+
+    int indexOfRange(double value, int start, int end) { // SIMD daca e disponibil, vezi MyPrimitiveOps
+        return MyPrimitiveOps.indexOf(elementData, start, end, value);
+    }
+
+    public int lastIndexOf(double value) {
+        return lastIndexOfRange(value, 0, size);
+    }
+
+    int lastIndexOfRange(double value, int start, int end) {
+        return MyPrimitiveOps.lastIndexOf(elementData, start, end, value);
+    }
+
+    public MyDoubleArrayList clone() {
+        try {
+            MyDoubleArrayList v = (MyDoubleArrayList) super.clone();
+            v.elementData = Arrays.copyOf(elementData, size);
+            v.modCount = 0;
+            return v;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOf(elementData, size);
+    }
+
+    // Acces dupa pozitie
+
+    public double get(int index) {
+        Objects.checkIndex(index, size);
+        return elementData[index];
+    }
+
+    public double getFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return elementData[0];
+    }
+
+    public double getLast() {
+        int last = size - 1;
+        if(last < 0) throw new NoSuchElementException();
+        return elementData[last];
+    }
+
+    public double set(int index, double element) {
+        Objects.checkIndex(index, size);
+        double oldValue = elementData[index];
+        elementData[index] = element;
+        return oldValue;
+    }
+
+    private void add(double el, double[] elementData, int s) {
+        if (s == elementData.length) elementData = grow();
+        elementData[s] = el;
+        size = s + 1;
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if( index > size || index < 0) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private String outOfBoundsMsg(int index) {
+        return "Index: "+index+", Dimeansiunea: "+size;
+    }
+
+    public boolean add(double e) {
+        modCount++;
+        add(e, elementData, size);
+        return true;
+    }
+
+    public void add(int index, double element) {
+        rangeCheckForAdd(index);
+        modCount++;
+        final int s = size;
+        double[] elementData = this.elementData;
+        if(s == elementData.length) elementData = grow();
+        System.arraycopy(elementData, index, elementData, index + 1, s - index);
+        elementData[index] = element;
+        size = s + 1;
+    }
+
+    public void addFirst(double element) {
+        add(0, element);
+    }
+
+    public void addLast(double element) {
+        add(element);
+    }
+
+    private void fastRemove(double[] temp, int i) { // nu mai trebuie sa punem null pe ultimul loc
+        modCount++;
+        final int newSize = size - 1;
+        if(newSize > i) {
+            System.arraycopy(temp, i+1, temp, i, newSize - i);
+        }
+        size = newSize;
+    }
+
+    public double remove(int index) { // sterge dupa pozitie, pentru valoare e removeValue
+        Objects.checkIndex(index, size);
+        final double[] temp = elementData;
+        double oldValue = temp[index];
+        fastRemove(temp, index);
+        return oldValue;
+    }
+
+    public double removeFirst() {
+        if(size == 0) throw new NoSuchElementException();
+        double oldValue = elementData[0];
+        fastRemove(elementData, 0);
+        return oldValue;
+    }
+
+    public double removeLast() {
+        int last = size - 1;
+        if (last < 0) throw new NoSuchElementException();
+        double oldValue = elementData[last];
+        fastRemove(elementData, last);
+        return oldValue;
+    }
+
+    public boolean removeValue(double value) { // ca remove(Object) din MyArrayList
+        int i = indexOfRange(value, 0, size);
+        if(i < 0) return false;
+        fastRemove(elementData, i);
+        return true;
+    }
+
+    public boolean equals(Object obj) {
+        if(obj == this) {
+            return true;
+        }
+        if(!(obj instanceof MyDoubleArrayList)) {
+            return false;
+        }
+        final int expectedModCount = modCount;
+        MyDoubleArrayList other = (MyDoubleArrayList) obj;
+        boolean equal = Arrays.equals(elementData, 0, size, other.elementData, 0, other.size); // Arrays.equals e deja vectorizat de JVM
+        checkForComodification(expectedModCount);
+        return equal;
+    }
+
+    private void checkForComodification(final int expectedModCount) {
+        if(modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    public int hashCode() { // acelasi rezultat ca hashCode-ul unei List<Double> cu aceleasi elemente
+        int expectedModCount = modCount;
+        int hash = hashCodeRange(0, size);
+        checkForComodification(expectedModCount);
+        return hash;
+    }
+
+    int hashCodeRange(int from, int to) {
+        final double[] temp = elementData;
+        if(to > temp.length) {
+            throw new ConcurrentModificationException();
+        }
+        return MyPrimitiveOps.hashCode(temp, from, to);
+    }
+
+    public double min() {
+        if(size == 0) throw new NoSuchElementException();
+        return MyPrimitiveOps.min(elementData, 0, size);
+    }
+
+    public double max() {
+        if(size == 0) throw new NoSuchElementException();
+        return MyPrimitiveOps.max(elementData, 0, size);
+    }
+
+    public double sum() {
+        return MyPrimitiveOps.sum(elementData, 0, size);
+    }
+
+    public void fill(double value) { // suprascrie toate elementele (Arrays.fill e deja vectorizat de JVM)
+        Arrays.fill(elementData, 0, size, value);
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder().append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(elementData[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    public void clear() { // nu avem referinte de eliberat, ajunge sa resetam size
+        modCount++;
+        size = 0;
+    }
+
+    public boolean addAll(MyDoubleArrayList c) {
+        return addAll(size, c.elementData, 0, c.size);
+    }
+
+    public boolean addAll(double[] arr) {
+        return addAll(size, arr, 0, arr.length);
+    }
+
+    public boolean addAll(int index, double[] arr) {
+        return addAll(index, arr, 0, arr.length);
+    }
+
+    private boolean addAll(int index, double[] arr, int from, int numNew) {
+        rangeCheckForAdd(index);
+        modCount++;
+        if(numNew == 0) return false;
+        double[] elementData = this.elementData;
+        final int s = size;
+        if(numNew > elementData.length - s) elementData = grow(s + numNew);
+        int numMoved = s - index;
+        if(numMoved > 0) System.arraycopy(elementData, index, elementData, index + numNew, numMoved);
+        System.arraycopy(arr, from, elementData, index, numNew);
+        size = s + numNew;
+        return true;
+    }
+
+    protected void removeRange(int fromIndex, int toIndex) {
+        if(fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Din Index: " + fromIndex + " > Pana Index: " + toIndex);
+        }
+        modCount++;
+        shiftTailOverGap(elementData, fromIndex, toIndex);
+    }
+
+    private void shiftTailOverGap(double[] temp, int fromIndex, int toIndex) {
+        System.arraycopy(temp, toIndex, temp, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+    }
+
+    // Iteratori
+
+    public PrimitiveIterator.OfDouble iterator() {
+        return new Itr(0);
+    }
+
+    private class Itr implements PrimitiveIterator.OfDouble {
+        int cursor;
+        int expectedModCount = modCount;
+
+        Itr(int cursor) {
+            this.cursor = cursor;
+        }
+
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        public double nextDouble() {
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            int i = cursor;
+            if(i >= size) throw new NoSuchElementException();
+            double[] elementData = MyDoubleArrayList.this.elementData;
+            if (i >= elementData.length) throw new ConcurrentModificationException();
+            cursor = i + 1;
+            return elementData[i];
+        }
+
+        public void forEachRemaining(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            final int size = MyDoubleArrayList.this.size;
+            int i = cursor;
+            if (i < size) {
+                final double[] temp = elementData;
+                if (i >= temp.length) throw new ConcurrentModificationException();
+                for(; i < size && modCount == expectedModCount; i++) {
+                    action.accept(temp[i]);
+                }
+                cursor = i;
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    public void forEach(DoubleConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final double[] temp = elementData;
+        final int size = this.size;
+        for (int i = 0; modCount == expectedModCount && i < size; i++) {
+            action.accept(temp[i]);
+        }
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    public Spliterator.OfDouble spliterator() {
+        return new DoubleArrayListSpliterator(0, -1, 0);
+    }
+
+    public DoubleStream stream() { // stream fara boxing
+        return StreamSupport.doubleStream(spliterator(), false);
+    }
+
+    public DoubleStream parallelStream() {
+        return StreamSupport.doubleStream(spliterator(), true);
+    }
+
+    final class DoubleArrayListSpliterator implements Spliterator.OfDouble {
+        private int index;
+        private int fence; // -1 pana la prima folosire
+        private int expectedModCount;
+
+        DoubleArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            int hi;
+            if((hi = fence) < 0) {
+                expectedModCount = modCount;
+                hi = fence = size;
+            }
+            return hi;
+        }
+
+        public DoubleArrayListSpliterator trySplit() {
+            int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+            return (lo >= mid) ? null : new DoubleArrayListSpliterator(lo, index = mid, expectedModCount);
+        }
+
+        public boolean tryAdvance(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = getFence(), i = index;
+            if(i < hi) {
+                index = i + 1;
+                action.accept(elementData[i]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+            return false;
+        }
+
+        public void forEachRemaining(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            int i, hi, mc;
+            double[] a = elementData;
+            if((hi = fence) < 0) {
+                mc = modCount;
+                hi = size;
+            } else {
+                mc = expectedModCount;
+            }
+            if((i = index) >= 0 && (index = hi) <= a.length) {
+                for(; i < hi; ++i) {
+                    action.accept(a[i]);
+                }
+                if(modCount == mc) return;
+            }
+            throw new ConcurrentModificationException();
+        }
+
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+
+    // removeIf cu bitset-ul deathRow din MyArrayList
+
+    public boolean removeIf(DoublePredicate filter) {
+        return removeIf(filter, 0, size);
+    }
+
+    boolean removeIf(DoublePredicate filter, int i, final int end) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        final double[] temp = elementData;
+
+        for(; i < end && !filter.test(temp[i]); i++);
+        if(i < end) {
+            final int beg = i;
+            final long[] deathRow = MyArrayList.nBits(end - beg);
+            deathRow[0] = 1L;
+            for(i = beg + 1; i < end; i++) {
+                if(filter.test(temp[i])) MyArrayList.setBit(deathRow, i - beg);
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+            int w = beg;
+            for(i = beg; i < end; i++) {
+                if(MyArrayList.isClear(deathRow, i - beg)) temp[w++] = temp[i];
+            }
+            shiftTailOverGap(temp, w, end);
+            return true;
+        } else {
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            return false;
+        }
+    }
+
+    public void replaceAll(DoubleUnaryOperator operator) {
+        replaceAllRange(operator, 0, size);
+        modCount++;
+    }
+
+    private void replaceAllRange(DoubleUnaryOperator operator, int i, int end) {
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        final double[] temp = elementData;
+        for(; modCount == expectedModCount && i < end; i++) {
+            temp[i] = operator.applyAsDouble(temp[i]);
+        }
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    public void sort() { // sortare in ordine crescatoare, direct pe double[]
+        sortRange(0, size);
+    }
+
+    private void sortRange(int from, int to) {
+        final int expectedModCount = modCount;
+        Arrays.sort(elementData, from, to);
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        modCount++;
+    }
+
+    // SubLista
+
+    public SubList subList(int fromIndex, int toIndex) {
+        MyArrayList.subListRangeCheck(fromIndex, toIndex, size);
+        return new SubList(this, fromIndex, toIndex);
+    }
+
+    public static class SubList implements RandomAccess { // fereastra peste lista, la fel ca SubList din MyArrayList
+        private final MyDoubleArrayList root;
+        private final SubList parent;
+        private final int offset;
+        private int size;
+        private int modCount;
+
+        private SubList(MyDoubleArrayList root, int fromIndex, int toIndex) {
+            this.root = root;
+            this.parent = null;
+            this.offset = fromIndex;
+            this.size = toIndex - fromIndex;
+            this.modCount = root.modCount;
+        }
+
+        private SubList(SubList parent, int fromIndex, int toIndex) {
+            this.root = parent.root;
+            this.parent = parent;
+            this.offset = parent.offset + fromIndex;
+            this.size = toIndex - fromIndex;
+            this.modCount = parent.modCount;
+        }
+
+        public double set(int index, double element) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+            double oldValue = root.elementData[offset + index];
+            root.elementData[offset + index] = element;
+            return oldValue;
+        }
+
+        public double get(int index) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+            return root.elementData[offset + index];
+        }
+
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        public void add(double element) {
+            add(size, element);
+        }
+
+        public void add(int index, double element) {
+            rangeCheckForAdd(index);
+            checkForComodification();
+            root.add(offset + index, element);
+            updateSizeAndModCount(1);
+        }
+
+        public double remove(int index) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+            double result = root.remove(offset + index);
+            updateSizeAndModCount(-1);
+            return result;
+        }
+
+        public void clear() {
+            removeRange(0, size);
+        }
+
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            root.removeRange(offset + fromIndex, offset + toIndex);
+            updateSizeAndModCount(fromIndex - toIndex);
+        }
+
+        public boolean addAll(double[] arr) {
+            return addAll(this.size, arr);
+        }
+
+        public boolean addAll(int index, double[] arr) {
+            rangeCheckForAdd(index);
+            if (arr.length == 0) return false;
+            checkForComodification();
+            root.addAll(offset + index, arr);
+            updateSizeAndModCount(arr.length);
+            return true;
+        }
+
+        public void replaceAll(DoubleUnaryOperator operator) {
+            checkForComodification();
+            root.replaceAllRange(operator, offset, offset + size);
+        }
+
+        public boolean removeIf(DoublePredicate filter) {
+            checkForComodification();
+            int oldSize = root.size;
+            boolean modified = root.removeIf(filter, offset, offset + size);
+            if(modified) updateSizeAndModCount(root.size - oldSize);
+            return modified;
+        }
+
+        public void sort() {
+            checkForComodification();
+            root.sortRange(offset, offset + size);
+            updateSizeAndModCount(0);
+        }
+
+        public double[] toArray() {
+            checkForComodification();
+            return Arrays.copyOfRange(root.elementData, offset, offset + size);
+        }
+
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if(!(obj instanceof SubList)) {
+                return false;
+            }
+            SubList other = (SubList) obj;
+            checkForComodification();
+            other.checkForComodification();
+            return Arrays.equals(root.elementData, offset, offset + size, other.root.elementData, other.offset, other.offset + other.size);
+        }
+
+        public int hashCode() {
+            int hash = root.hashCodeRange(offset, offset + size);
+            checkForComodification();
+            return hash;
+        }
+
+        public int indexOf(double value) {
+            int index = root.indexOfRange(value, offset, offset + size);
+            checkForComodification();
+            return index >= 0 ? index - offset : -1;
+        }
+
+        public int lastIndexOf(double value) {
+            int index = root.lastIndexOfRange(value, offset, offset + size);
+            checkForComodification();
+            return index >= 0 ? index - offset : -1;
+        }
+
+        public boolean contains(double value) {
+            return indexOf(value) >= 0;
+        }
+
+        public void forEach(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            checkForComodification();
+            final double[] temp = root.elementData;
+            for (int i = offset, end = offset + size; i < end && root.modCount == modCount; i++) {
+                action.accept(temp[i]);
+            }
+            checkForComodification();
+        }
+
+        public Spliterator.OfDouble spliterator() { // aici fence se fixeaza imediat, sublista nu e "late-binding"
+            checkForComodification();
+            return root.new DoubleArrayListSpliterator(offset, offset + size, modCount);
+        }
+
+        public DoubleStream stream() {
+            return StreamSupport.doubleStream(spliterator(), false);
+        }
+
+        public SubList subList(int fromIndex, int toIndex) {
+            MyArrayList.subListRangeCheck(fromIndex, toIndex, size);
+            return new SubList(this, fromIndex, toIndex);
+        }
+
+        private void rangeCheckForAdd(int index) {
+            if (index < 0 || index > this.size) throw new IndexOutOfBoundsException("Index: " + index + ", Dimensiunea: " + this.size);
+        }
+
+        private void checkForComodification() {
+            if(root.modCount != modCount) throw new ConcurrentModificationException();
+        }
+
+        private void updateSizeAndModCount(int sizeChange) {
+            SubList slist = this;
+            do {
+                slist.size += sizeChange;
+                slist.modCount = root.modCount;
+                slist = slist.parent;
+            } while(slist != null);
+        }
+    }
+}
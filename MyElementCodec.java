@@ -0,0 +1,120 @@
+package Collections;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Codec pentru serializare in bloc (MyArrayList.writeTo / readFrom). Primeste direct bucata din elementData,
+// ca sa scrie multe elemente odata in loc de cate o inregistrare ObjectOutputStream pentru fiecare element.
+// Elementele primite nu sunt niciodata null (null-urile sunt tinute separat de lista).
+public interface MyElementCodec<T> {
+
+    void writeAll(DataOutput out, Object[] a, int from, int to) throws IOException;
+
+    void readAll(DataInput in, Object[] a, int from, int to) throws IOException;
+
+    int BATCH_BYTES = 8192; // cat de mare e bucata scrisa odata
+
+    MyElementCodec<Integer> INT = new MyElementCodec<>() {
+        public void writeAll(DataOutput out, Object[] a, int from, int to) throws IOException {
+            ByteBuffer buf = ByteBuffer.allocate(BATCH_BYTES);
+            for(int i = from; i < to; i++) {
+                if(buf.remaining() < Integer.BYTES) flush(out, buf);
+                buf.putInt((Integer) a[i]);
+            }
+            flush(out, buf);
+        }
+
+        public void readAll(DataInput in, Object[] a, int from, int to) throws IOException {
+            byte[] bytes = new byte[BATCH_BYTES];
+            ByteBuffer buf = ByteBuffer.wrap(bytes);
+            for(int i = from; i < to; ) {
+                int n = Math.min(to - i, BATCH_BYTES / Integer.BYTES);
+                in.readFully(bytes, 0, n * Integer.BYTES);
+                buf.clear();
+                for(int end = i + n; i < end; i++) a[i] = buf.getInt();
+            }
+        }
+    };
+
+    MyElementCodec<Long> LONG = new MyElementCodec<>() {
+        public void writeAll(DataOutput out, Object[] a, int from, int to) throws IOException {
+            ByteBuffer buf = ByteBuffer.allocate(BATCH_BYTES);
+            for(int i = from; i < to; i++) {
+                if(buf.remaining() < Long.BYTES) flush(out, buf);
+                buf.putLong((Long) a[i]);
+            }
+            flush(out, buf);
+        }
+
+        public void readAll(DataInput in, Object[] a, int from, int to) throws IOException {
+            byte[] bytes = new byte[BATCH_BYTES];
+            ByteBuffer buf = ByteBuffer.wrap(bytes);
+            for(int i = from; i < to; ) {
+                int n = Math.min(to - i, BATCH_BYTES / Long.BYTES);
+                in.readFully(bytes, 0, n * Long.BYTES);
+                buf.clear();
+                for(int end = i + n; i < end; i++) a[i] = buf.getLong();
+            }
+        }
+    };
+
+    MyElementCodec<Double> DOUBLE = new MyElementCodec<>() {
+        public void writeAll(DataOutput out, Object[] a, int from, int to) throws IOException {
+            ByteBuffer buf = ByteBuffer.allocate(BATCH_BYTES);
+            for(int i = from; i < to; i++) {
+                if(buf.remaining() < Double.BYTES) flush(out, buf);
+                buf.putDouble((Double) a[i]);
+            }
+            flush(out, buf);
+        }
+
+        public void readAll(DataInput in, Object[] a, int from, int to) throws IOException {
+            byte[] bytes = new byte[BATCH_BYTES];
+            ByteBuffer buf = ByteBuffer.wrap(bytes);
+            for(int i = from; i < to; ) {
+                int n = Math.min(to - i, BATCH_BYTES / Double.BYTES);
+                in.readFully(bytes, 0, n * Double.BYTES);
+                buf.clear();
+                for(int end = i + n; i < end; i++) a[i] = buf.getDouble();
+            }
+        }
+    };
+
+    // String-uri ca UTF-8 cu lungimea in fata (writeUTF are limita de 64K si format modificat)
+    MyElementCodec<String> STRING = new MyElementCodec<>() {
+        public void writeAll(DataOutput out, Object[] a, int from, int to) throws IOException {
+            ByteBuffer buf = ByteBuffer.allocate(BATCH_BYTES);
+            for(int i = from; i < to; i++) {
+                byte[] bytes = ((String) a[i]).getBytes(StandardCharsets.UTF_8);
+                if(buf.remaining() < Integer.BYTES + bytes.length) {
+                    flush(out, buf);
+                    if(buf.remaining() < Integer.BYTES + bytes.length) { // nu incape nici in buffer gol
+                        out.writeInt(bytes.length);
+                        out.write(bytes);
+                        continue;
+                    }
+                }
+                buf.putInt(bytes.length).put(bytes);
+            }
+            flush(out, buf);
+        }
+
+        public void readAll(DataInput in, Object[] a, int from, int to) throws IOException {
+            byte[] bytes = new byte[256];
+            for(int i = from; i < to; i++) {
+                int length = in.readInt();
+                if(length < 0) throw new IOException("Lungime gresita: " + length);
+                if(length > bytes.length) bytes = new byte[Math.max(length, bytes.length << 1)];
+                in.readFully(bytes, 0, length);
+                a[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+            }
+        }
+    };
+
+    private static void flush(DataOutput out, ByteBuffer buf) throws IOException {
+        out.write(buf.array(), 0, buf.position());
+        buf.clear();
+    }
+}
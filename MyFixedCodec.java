@@ -0,0 +1,57 @@
+package Collections;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+// Codec pentru elemente cu dimensiune fixa (primitive sau record-uri simple), scrise direct intr-un MemorySegment
+public interface MyFixedCodec<T> {
+
+    long byteSize(); // cati bytes ocupa un element
+
+    void write(MemorySegment segment, long offset, T value);
+
+    T read(MemorySegment segment, long offset);
+
+    // Codec-uri gata facute pentru primitive. Layout-urile sunt "unaligned" ca sa mearga si cu record-uri impachetate
+
+    MyFixedCodec<Byte> BYTE = new MyFixedCodec<>() {
+        public long byteSize() { return Byte.BYTES; }
+        public void write(MemorySegment s, long o, Byte v) { s.set(ValueLayout.JAVA_BYTE, o, v); }
+        public Byte read(MemorySegment s, long o) { return s.get(ValueLayout.JAVA_BYTE, o); }
+    };
+
+    MyFixedCodec<Short> SHORT = new MyFixedCodec<>() {
+        public long byteSize() { return Short.BYTES; }
+        public void write(MemorySegment s, long o, Short v) { s.set(ValueLayout.JAVA_SHORT_UNALIGNED, o, v); }
+        public Short read(MemorySegment s, long o) { return s.get(ValueLayout.JAVA_SHORT_UNALIGNED, o); }
+    };
+
+    MyFixedCodec<Character> CHAR = new MyFixedCodec<>() {
+        public long byteSize() { return Character.BYTES; }
+        public void write(MemorySegment s, long o, Character v) { s.set(ValueLayout.JAVA_CHAR_UNALIGNED, o, v); }
+        public Character read(MemorySegment s, long o) { return s.get(ValueLayout.JAVA_CHAR_UNALIGNED, o); }
+    };
+
+    MyFixedCodec<Integer> INT = new MyFixedCodec<>() {
+        public long byteSize() { return Integer.BYTES; }
+        public void write(MemorySegment s, long o, Integer v) { s.set(ValueLayout.JAVA_INT_UNALIGNED, o, v); }
+        public Integer read(MemorySegment s, long o) { return s.get(ValueLayout.JAVA_INT_UNALIGNED, o); }
+    };
+
+    MyFixedCodec<Long> LONG = new MyFixedCodec<>() {
+        public long byteSize() { return Long.BYTES; }
+        public void write(MemorySegment s, long o, Long v) { s.set(ValueLayout.JAVA_LONG_UNALIGNED, o, v); }
+        public Long read(MemorySegment s, long o) { return s.get(ValueLayout.JAVA_LONG_UNALIGNED, o); }
+    };
+
+    MyFixedCodec<Float> FLOAT = new MyFixedCodec<>() {
+        public long byteSize() { return Float.BYTES; }
+        public void write(MemorySegment s, long o, Float v) { s.set(ValueLayout.JAVA_FLOAT_UNALIGNED, o, v); }
+        public Float read(MemorySegment s, long o) { return s.get(ValueLayout.JAVA_FLOAT_UNALIGNED, o); }
+    };
+
+    MyFixedCodec<Double> DOUBLE = new MyFixedCodec<>() {
+        public long byteSize() { return Double.BYTES; }
+        public void write(MemorySegment s, long o, Double v) { s.set(ValueLayout.JAVA_DOUBLE_UNALIGNED, o, v); }
+        public Double read(MemorySegment s, long o) { return s.get(ValueLayout.JAVA_DOUBLE_UNALIGNED, o); }
+    };
+}
@@ -0,0 +1,222 @@
+package Collections;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.*;
+
+// Vedere lenesa peste un MyArrayList: mappedView / filteredView / slice nu copiaza nimic, doar leaga un nou pas de cel de dinainte.
+// Pasii se inlantuie (lista.filteredView(p).mappedView(f).slice(0, 100, 2)) si se executa abia la citire:
+// forEach / toArray / toList trec o singura data prin lista, cu toti pasii topiti intr-un singur Consumer,
+// iar get(i) calculeaza doar elementul cerut (map si slice sunt O(1), filter isi tine minte pozitiile elementelor care trec).
+// Vederea e "vie": vede lista asa cum e in momentul citirii, dar nu poate fi schimbata (add / set / remove dau UnsupportedOperationException).
+// La slice, toIndex se taie la marimea de acum a vederii de dedesubt, deci dupa ce lista scade slice-ul are mai putine elemente.
+// Functiile date la map / filter pot fi apelate de mai multe ori pentru acelasi element (o data pentru fiecare citire).
+public abstract class MyListView<T> extends AbstractList<T> implements RandomAccess {
+
+    // Variabile
+    final MyArrayList<?> root; // lista de la inceputul lantului, pentru modCount
+
+    // Constructore
+    MyListView(MyArrayList<?> root) {
+        this.root = root;
+    }
+
+    //Metode
+    static <T> MyListView<T> of(MyArrayList<T> list) {
+        return new Source<>(list);
+    }
+
+    public <R> MyListView<R> mappedView(Function<? super T, ? extends R> mapper) {
+        return new Mapped<>(this, Objects.requireNonNull(mapper));
+    }
+
+    public MyListView<T> filteredView(Predicate<? super T> filter) {
+        return new Filtered<>(this, Objects.requireNonNull(filter));
+    }
+
+    public MyListView<T> slice(int fromIndex, int toIndex, int step) { // elementele fromIndex, fromIndex + step, ... < toIndex
+        return new Sliced<>(this, fromIndex, toIndex, step);
+    }
+
+    abstract int knownSize(); // size() daca se stie fara sa rulam predicate, altfel -1
+
+    abstract int maxSize(); // cel mult atatea elemente, fara sa rulam predicate
+
+    public abstract void forEach(Consumer<? super T> action); // toti pasii intr-o singura trecere
+
+    public Object[] toArray() { // o trecere; marime exacta daca nu e filter in lant, altfel se taie o data la sfarsit
+        int n = knownSize();
+        final Object[] a = new Object[n >= 0 ? n : maxSize()];
+        final int[] w = {0};
+        forEach(e -> a[w[0]++] = e);
+        return (w[0] == a.length) ? a : Arrays.copyOf(a, w[0]);
+    }
+
+    public MyArrayList<T> toList() { // lista noua peste array-ul din toArray, fara inca o copie
+        return MyArrayList.adopt(toArray());
+    }
+
+    private static final class Source<T> extends MyListView<T> { // lista insasi
+        private final MyArrayList<T> list;
+
+        Source(MyArrayList<T> list) {
+            super(list);
+            this.list = list;
+        }
+
+        public T get(int index) {
+            return list.get(index);
+        }
+
+        public int size() {
+            return list.size();
+        }
+
+        int knownSize() {
+            return list.size();
+        }
+
+        int maxSize() {
+            return list.size();
+        }
+
+        public void forEach(Consumer<? super T> action) {
+            list.forEach(action);
+        }
+    }
+
+    private static final class Mapped<S, T> extends MyListView<T> {
+        private final MyListView<S> upstream;
+        private final Function<? super S, ? extends T> mapper;
+
+        Mapped(MyListView<S> upstream, Function<? super S, ? extends T> mapper) {
+            super(upstream.root);
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        public T get(int index) {
+            return mapper.apply(upstream.get(index));
+        }
+
+        public int size() {
+            return upstream.size();
+        }
+
+        int knownSize() {
+            return upstream.knownSize();
+        }
+
+        int maxSize() {
+            return upstream.maxSize();
+        }
+
+        public void forEach(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            upstream.forEach(e -> action.accept(mapper.apply(e)));
+        }
+    }
+
+    private static final class Filtered<T> extends MyListView<T> {
+        private final MyListView<T> upstream;
+        private final Predicate<? super T> filter;
+        private int[] hits; // pozitiile din upstream care trec filtrul, pentru get / size
+        private int hitsWriteCount; // root.writeCount() cand s-a calculat hits (si set schimba ce trece de filtru)
+
+        Filtered(MyListView<T> upstream, Predicate<? super T> filter) {
+            super(upstream.root);
+            this.upstream = upstream;
+            this.filter = filter;
+        }
+
+        private int[] hits() { // recalculat doar daca lista s-a schimbat intre timp
+            int[] h = hits;
+            if(h == null || hitsWriteCount != root.writeCount()) {
+                final int wc = root.writeCount();
+                final int n = upstream.size();
+                h = new int[n];
+                int k = 0;
+                for(int i = 0; i < n; i++) {
+                    if(filter.test(upstream.get(i))) h[k++] = i;
+                }
+                if(root.writeCount() != wc) throw new ConcurrentModificationException();
+                hits = h = (k == n) ? h : Arrays.copyOf(h, k);
+                hitsWriteCount = wc;
+            }
+            return h;
+        }
+
+        public T get(int index) {
+            int[] h = hits();
+            Objects.checkIndex(index, h.length);
+            return upstream.get(h[index]);
+        }
+
+        public int size() {
+            return hits().length;
+        }
+
+        int knownSize() {
+            return (hits != null && hitsWriteCount == root.writeCount()) ? hits.length : -1;
+        }
+
+        int maxSize() {
+            return upstream.maxSize();
+        }
+
+        public void forEach(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            upstream.forEach(e -> {
+                if(filter.test(e)) action.accept(e);
+            });
+        }
+    }
+
+    private static final class Sliced<T> extends MyListView<T> { // limitele se raporteaza la marimea de acum a lui upstream (vederea e vie)
+        private final MyListView<T> upstream;
+        private final int from, to, step;
+
+        Sliced(MyListView<T> upstream, int fromIndex, int toIndex, int step) {
+            super(upstream.root);
+            Objects.checkFromToIndex(fromIndex, toIndex, upstream.size());
+            if(step <= 0) throw new IllegalArgumentException("Pasul gresit: " + step);
+            this.upstream = upstream;
+            this.from = fromIndex;
+            this.to = toIndex;
+            this.step = step;
+        }
+
+        private int sizeFor(int upstreamSize) { // cate elemente are slice-ul daca upstream are upstreamSize elemente (toIndex taiat la marime)
+            int end = Math.min(to, upstreamSize);
+            return (end <= from) ? 0 : (int) (((long) end - from + step - 1) / step);
+        }
+
+        public T get(int index) {
+            Objects.checkIndex(index, size());
+            return upstream.get(from + index * step);
+        }
+
+        public int size() {
+            return sizeFor(upstream.size());
+        }
+
+        int knownSize() {
+            int n = upstream.knownSize();
+            return (n < 0) ? -1 : sizeFor(n);
+        }
+
+        int maxSize() {
+            return sizeFor(upstream.maxSize());
+        }
+
+        public void forEach(Consumer<? super T> action) { // doar elementele din slice, celelalte nu trec prin map / filter
+            Objects.requireNonNull(action);
+            final int mc = root.modCount();
+            for(int i = 0, j = from, n = size(); i < n; i++, j += step) {
+                if(root.modCount() != mc) throw new ConcurrentModificationException();
+                action.accept(upstream.get(j));
+            }
+            if(root.modCount() != mc) throw new ConcurrentModificationException();
+        }
+    }
+}
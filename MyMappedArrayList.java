@@ -0,0 +1,250 @@
+package Collections;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+// Lista persistenta: elementele (codate cu MyFixedCodec) stau intr-un fisier mapat in memorie cu FileChannel.map.
+// La repornire se deschide acelasi fisier si lista e gata imediat, fara deserializare.
+// force() scrie pe disc ce s-a schimbat; close() face force si elibereaza maparea.
+// Fisier: un header de HEADER_BYTES (magic, dimensiunea elementului, size) si apoi elementele unul dupa altul.
+public class MyMappedArrayList<T> extends AbstractList<T> implements RandomAccess, AutoCloseable {
+
+    // Variabile
+    private static final int MAGIC = 0x4D594D41; // "MYMA"
+    private static final long HEADER_BYTES = 64;
+    private static final long MAGIC_OFFSET = 0;
+    private static final long ELEMENT_SIZE_OFFSET = 8;
+    private static final long SIZE_OFFSET = 16;
+    private static final long MIN_GROWTH_BYTES = 1 << 20; // fisierul creste cel putin cu 1 MB odata
+
+    private final MyFixedCodec<T> codec;
+    private final long elementSize;
+    private final FileChannel channel;
+    private Arena arena; // arena maparii curente; la grow se face mapare noua si cea veche se inchide
+    private MemorySegment segment; // header + capacity elemente
+    private int capacity; // in elemente
+    private int size;
+    private boolean closed;
+
+    // Constructore
+    private MyMappedArrayList(FileChannel channel, MyFixedCodec<T> codec) throws IOException {
+        this.channel = channel;
+        this.codec = codec;
+        this.elementSize = codec.byteSize();
+        if(elementSize <= 0) {
+            throw new IllegalArgumentException("Dimensiunea elementului gresita: " + elementSize);
+        }
+        long fileSize = channel.size();
+        if(fileSize == 0) { // fisier nou
+            map(0);
+            segment.set(ValueLayout.JAVA_INT, MAGIC_OFFSET, MAGIC);
+            segment.set(ValueLayout.JAVA_LONG, ELEMENT_SIZE_OFFSET, elementSize);
+            writeSize();
+        } else {
+            if(fileSize < HEADER_BYTES) throw new IOException("Fisierul nu e o lista: prea mic");
+            long fileCapacity = (fileSize - HEADER_BYTES) / elementSize;
+            map((int) Math.min(fileCapacity, MyArrayList.SOFT_MAX_ARRAY_LENGTH));
+            try {
+                if(segment.get(ValueLayout.JAVA_INT, MAGIC_OFFSET) != MAGIC) throw new IOException("Fisierul nu e o lista: magic gresit");
+                if(segment.get(ValueLayout.JAVA_LONG, ELEMENT_SIZE_OFFSET) != elementSize) throw new IOException("Codec-ul nu se potriveste cu fisierul");
+                long storedSize = segment.get(ValueLayout.JAVA_LONG, SIZE_OFFSET);
+                if(storedSize < 0 || storedSize > capacity) throw new IOException("Dimensiunea din header e gresita: " + storedSize);
+                size = (int) storedSize;
+            } catch (IOException ex) {
+                arena.close();
+                throw ex;
+            }
+        }
+    }
+
+    // deschide (sau creeaza) lista din fisier
+    public static <T> MyMappedArrayList<T> open(Path file, MyFixedCodec<T> codec) throws IOException {
+        Objects.requireNonNull(codec);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new MyMappedArrayList<>(channel, codec);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    //Metode
+    private void map(int newCapacity) throws IOException { // mapare noua; daca e mai mare decat fisierul, FileChannel.map il mareste
+        Arena newArena = Arena.ofShared();
+        MemorySegment newSegment;
+        try {
+            newSegment = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + newCapacity * elementSize, newArena);
+        } catch (IOException | RuntimeException ex) {
+            newArena.close();
+            throw ex;
+        }
+        if(arena != null) arena.close();
+        arena = newArena;
+        segment = newSegment;
+        capacity = newCapacity;
+    }
+
+    private void grow(int minCapacity) { // ca MyArrayList.grow, dar cu pasi de cel putin MIN_GROWTH_BYTES
+        int oldCapacity = capacity;
+        int prefGrowth = (int) Math.max(oldCapacity >> 1, MIN_GROWTH_BYTES / elementSize);
+        try {
+            map(MyArrayList.MyNewLength(oldCapacity, minCapacity - oldCapacity, prefGrowth));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeSize() { // size sta si in header, ca sa-l gasim dupa repornire
+        segment.set(ValueLayout.JAVA_LONG, SIZE_OFFSET, size);
+    }
+
+    private void checkOpen() {
+        if(closed) throw new IllegalStateException("Lista a fost inchisa");
+    }
+
+    private long offset(int index) {
+        return HEADER_BYTES + index * elementSize;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        checkOpen();
+        if(minCapacity > capacity) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    public void trimToSize() { // micsoreaza si fisierul
+        checkOpen();
+        modCount++;
+        if(size < capacity) {
+            try {
+                map(size);
+                channel.truncate(HEADER_BYTES + size * elementSize);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    public void force() { // scrie pe disc paginile modificate (elemente si header)
+        checkOpen();
+        segment.force();
+    }
+
+    public void close() throws IOException {
+        if(!closed) {
+            closed = true;
+            try {
+                segment.force();
+            } finally {
+                arena.close();
+                channel.close();
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public T get(int index) {
+        checkOpen();
+        Objects.checkIndex(index, size);
+        return codec.read(segment, offset(index));
+    }
+
+    public T set(int index, T element) {
+        checkOpen();
+        Objects.checkIndex(index, size);
+        Objects.requireNonNull(element);
+        T oldValue = codec.read(segment, offset(index));
+        codec.write(segment, offset(index), element);
+        return oldValue;
+    }
+
+    public boolean add(T e) { // scrie direct in zona mapata
+        Objects.requireNonNull(e);
+        checkOpen();
+        modCount++;
+        final int s = size;
+        if(s == capacity) grow(s + 1);
+        codec.write(segment, offset(s), e);
+        size = s + 1;
+        writeSize();
+        return true;
+    }
+
+    public void add(int index, T element) {
+        if(index > size || index < 0) throw new IndexOutOfBoundsException("Index: " + index + ", Dimensiunea: " + size);
+        Objects.requireNonNull(element);
+        checkOpen();
+        modCount++;
+        final int s = size;
+        if(s == capacity) grow(s + 1);
+        MemorySegment.copy(segment, offset(index), segment, offset(index + 1), (s - index) * elementSize);
+        codec.write(segment, offset(index), element);
+        size = s + 1;
+        writeSize();
+    }
+
+    public T remove(int index) {
+        checkOpen();
+        Objects.checkIndex(index, size);
+        T oldValue = codec.read(segment, offset(index));
+        modCount++;
+        shiftTailOverGap(index, index + 1);
+        return oldValue;
+    }
+
+    public void clear() {
+        checkOpen();
+        modCount++;
+        size = 0;
+        writeSize();
+    }
+
+    protected void removeRange(int fromIndex, int toIndex) {
+        checkOpen();
+        if(fromIndex < 0 || fromIndex > toIndex || toIndex > size) {
+            throw new IndexOutOfBoundsException("Din Index: " + fromIndex + ", Pana Index: " + toIndex + ", Dimensiunea: " + size);
+        }
+        modCount++;
+        shiftTailOverGap(fromIndex, toIndex);
+    }
+
+    private void shiftTailOverGap(int fromIndex, int toIndex) {
+        MemorySegment.copy(segment, offset(toIndex), segment, offset(fromIndex), (size - toIndex) * elementSize);
+        size -= toIndex - fromIndex;
+        writeSize();
+    }
+
+    public int indexOf(Object obj) {
+        checkOpen();
+        if(obj == null) return -1;
+        for(int i = 0; i < size; i++) {
+            if(obj.equals(codec.read(segment, offset(i)))) return i;
+        }
+        return -1;
+    }
+
+    public int lastIndexOf(Object obj) {
+        checkOpen();
+        if(obj == null) return -1;
+        for(int i = size - 1; i >= 0; i--) {
+            if(obj.equals(codec.read(segment, offset(i)))) return i;
+        }
+        return -1;
+    }
+
+    public boolean contains(Object obj) {
+        return indexOf(obj) >= 0;
+    }
+}
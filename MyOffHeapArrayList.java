@@ -0,0 +1,225 @@
+package Collections;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.function.Predicate;
+import java.util.*;
+
+// Varianta MyArrayList cu elementele in afara heap-ului (MemorySegment), codate de un MyFixedCodec.
+// Pe heap ramane doar obiectul listei, oricat de multe elemente are. Memoria se elibereaza explicit cu close().
+// Elemente null nu sunt permise (codec-ul nu are cum sa le scrie).
+// Lista nu e thread-safe, deci segmentele sunt in arene confined: le foloseste doar thread-ul care a facut ultimul grow,
+// altfel JDK arunca WrongThreadException. Inchiderea unei arene confined e mult mai ieftina decat a uneia shared.
+public class MyOffHeapArrayList<T> extends AbstractList<T> implements RandomAccess, AutoCloseable {
+
+    // Variabile
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private final MyFixedCodec<T> codec;
+    private final long elementSize; // codec.byteSize(), tinut aici ca sa nu-l cerem la fiecare acces
+    private Arena arena; // fiecare segment are arena lui, ca sa putem elibera segmentul vechi dupa grow
+    private MemorySegment segment = MemorySegment.NULL;
+    private int capacity; // in elemente, nu in bytes
+    private int size;
+    private boolean closed;
+
+    // Constructore
+    MyOffHeapArrayList(MyFixedCodec<T> codec, int initialCapacity) {
+        if(initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacitatea gresita: " + initialCapacity);
+        }
+        this.codec = Objects.requireNonNull(codec);
+        this.elementSize = codec.byteSize();
+        if(elementSize <= 0) {
+            throw new IllegalArgumentException("Dimensiunea elementului gresita: " + elementSize);
+        }
+        if(initialCapacity > 0) allocate(initialCapacity);
+    }
+
+    MyOffHeapArrayList(MyFixedCodec<T> codec) {
+        this(codec, 0);
+    }
+
+    //Metode
+    private void allocate(int newCapacity) { // aloca segment nou, copiaza elemente si elibereaza segmentul vechi
+        Arena newArena = Arena.ofConfined(); // shared ar cere un handshake cu toate thread-urile la fiecare close
+        MemorySegment newSegment = newArena.allocate(newCapacity * elementSize, 8);
+        if(size > 0) MemorySegment.copy(segment, 0, newSegment, 0, size * elementSize);
+        if(arena != null) arena.close();
+        arena = newArena;
+        segment = newSegment;
+        capacity = newCapacity;
+    }
+
+    private void grow(int minCapacity) { // aceeasi politica ca MyArrayList.grow
+        int oldCapacity = capacity;
+        if(oldCapacity > 0) {
+            allocate(MyArrayList.MyNewLength(oldCapacity, minCapacity - oldCapacity, oldCapacity >> 1));
+        } else {
+            allocate(Math.max(DEFAULT_CAPACITY, minCapacity));
+        }
+    }
+
+    public void trimToSize() {
+        checkOpen();
+        modCount++;
+        if(size < capacity) {
+            if(size == 0) {
+                release();
+            } else {
+                allocate(size);
+            }
+        }
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        checkOpen();
+        if(minCapacity > capacity) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    public void close() { // elibereaza memoria off-heap; dupa asta lista nu mai poate fi folosita
+        if(!closed) {
+            closed = true;
+            modCount++;
+            release();
+        }
+    }
+
+    private void release() {
+        if(arena != null) arena.close();
+        arena = null;
+        segment = MemorySegment.NULL;
+        capacity = 0;
+        size = 0;
+    }
+
+    private void checkOpen() {
+        if(closed) throw new IllegalStateException("Lista a fost inchisa");
+    }
+
+    public long byteSize() { // cata memorie off-heap e alocata acum
+        return capacity * elementSize;
+    }
+
+    private long offset(int index) {
+        return index * elementSize;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return codec.read(segment, offset(index));
+    }
+
+    public T set(int index, T element) {
+        Objects.checkIndex(index, size);
+        Objects.requireNonNull(element);
+        T oldValue = codec.read(segment, offset(index));
+        codec.write(segment, offset(index), element);
+        return oldValue;
+    }
+
+    public boolean add(T e) {
+        Objects.requireNonNull(e);
+        checkOpen();
+        modCount++;
+        final int s = size;
+        if(s == capacity) grow(s + 1);
+        codec.write(segment, offset(s), e);
+        size = s + 1;
+        return true;
+    }
+
+    public void add(int index, T element) {
+        if(index > size || index < 0) throw new IndexOutOfBoundsException("Index: " + index + ", Dimensiunea: " + size);
+        Objects.requireNonNull(element);
+        checkOpen();
+        modCount++;
+        final int s = size;
+        if(s == capacity) grow(s + 1);
+        MemorySegment.copy(segment, offset(index), segment, offset(index + 1), offset(s - index)); // copy stie de suprapuneri
+        codec.write(segment, offset(index), element);
+        size = s + 1;
+    }
+
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        T oldValue = codec.read(segment, offset(index));
+        shiftTailOverGap(index, index + 1);
+        modCount++;
+        return oldValue;
+    }
+
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    protected void removeRange(int fromIndex, int toIndex) {
+        if(fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Din Index: " + fromIndex + " > Pana Index: " + toIndex);
+        }
+        modCount++;
+        shiftTailOverGap(fromIndex, toIndex);
+    }
+
+    private void shiftTailOverGap(int fromIndex, int toIndex) { // nu avem referinte de facut null, doar mutam bytes
+        MemorySegment.copy(segment, offset(toIndex), segment, offset(fromIndex), offset(size - toIndex));
+        size -= toIndex - fromIndex;
+    }
+
+    public int indexOf(Object obj) {
+        if(obj == null) return -1;
+        for(int i = 0; i < size; i++) {
+            if(obj.equals(codec.read(segment, offset(i)))) return i;
+        }
+        return -1;
+    }
+
+    public int lastIndexOf(Object obj) {
+        if(obj == null) return -1;
+        for(int i = size - 1; i >= 0; i--) {
+            if(obj.equals(codec.read(segment, offset(i)))) return i;
+        }
+        return -1;
+    }
+
+    public boolean contains(Object obj) {
+        return indexOf(obj) >= 0;
+    }
+
+    public boolean removeIf(Predicate<? super T> filter) { // acelasi deathRow ca in MyArrayList.removeIf, dar compactam bytes
+        Objects.requireNonNull(filter);
+        final int expectedModCount = modCount;
+        final int end = size;
+        int i = 0;
+        for(; i < end && !filter.test(codec.read(segment, offset(i))); i++);
+        if(i < end) {
+            final int beg = i;
+            final long[] deathRow = MyArrayList.nBits(end - beg);
+            deathRow[0] = 1L;
+            for(i = beg + 1; i < end; i++) {
+                if(filter.test(codec.read(segment, offset(i)))) MyArrayList.setBit(deathRow, i - beg);
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+            int w = beg;
+            for(i = beg; i < end; i++) {
+                if(MyArrayList.isClear(deathRow, i - beg)) {
+                    if(w != i) MemorySegment.copy(segment, offset(i), segment, offset(w), elementSize);
+                    w++;
+                }
+            }
+            size = w;
+            return true;
+        } else {
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package Collections;
+import java.util.function.Consumer;
+import java.util.*;
+
+// Vector persistent (imutabil): with / append / pop nu schimba vectorul, intorc o versiune noua care
+// imparte aproape toata structura cu cea veche. Elementele stau intr-un arbore cu 32 de fii pe nod (trie pe bitii indexului,
+// 5 biti pe nivel) plus o coada (tail) de cel mult 32 de elemente, deci get / with / append / pop sunt O(log32 n),
+// adica cel mult 7 nivele pentru Integer.MAX_VALUE elemente, si copiaza doar drumul de la radacina la frunza.
+// Pentru multe schimbari la rand e Builder (asTransient / builder): modifica pe loc nodurile create de el,
+// fara copii, si la persistent() intoarce din nou un vector imutabil.
+// MyArrayList.toPersistent() da un vector "plat" in O(1) peste array-ul listei; arborele se construieste abia la prima
+// schimbare a acelui vector (o singura data, O(n)), get si iterarea merg direct pe array.
+public class MyPersistentVector<T> extends AbstractList<T> implements List<T>, RandomAccess {
+
+    // Variabile
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS; // 32
+    private static final int MASK = WIDTH - 1;
+
+    static final class Node { // nod din arbore: WIDTH fii (Node) sau, pe ultimul nivel, WIDTH elemente
+        final Object edit; // Builder-ul care il poate modifica pe loc, null pentru noduri imutabile
+        final Object[] array;
+
+        Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+
+        Node(Object edit) {
+            this(edit, new Object[WIDTH]);
+        }
+    }
+
+    private static final Node EMPTY_NODE = new Node(null);
+    private static final Object[] EMPTY_TAIL = {};
+    private static final MyPersistentVector<?> EMPTY = new MyPersistentVector<>(0, BITS, EMPTY_NODE, EMPTY_TAIL);
+
+    private final int size;
+    private final int shift; // BITS * (numarul de nivele de deasupra frunzelor)
+    private final Node root;
+    private final Object[] tail; // ultimele elemente, inca nepuse in arbore
+    private final Object[] flat; // != null doar pentru vectorul dat de MyArrayList.toPersistent; atunci root / tail nu se folosesc
+    private MyPersistentVector<T> tree; // flat transformat in arbore, calculat o data (ca String.hash: daca se calculeaza de doua ori, iese acelasi lucru)
+
+    // Constructore
+    private MyPersistentVector(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+        this.flat = null;
+    }
+
+    private MyPersistentVector(Object[] flat, int size) {
+        this.size = size;
+        this.shift = BITS;
+        this.root = EMPTY_NODE;
+        this.tail = EMPTY_TAIL;
+        this.flat = flat;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> MyPersistentVector<T> empty() {
+        return (MyPersistentVector<T>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <T> MyPersistentVector<T> of(T... elements) {
+        Builder<T> b = builder();
+        for(T e : elements) b.add(e);
+        return b.persistent();
+    }
+
+    public static <T> MyPersistentVector<T> from(Collection<? extends T> c) {
+        if(c instanceof MyPersistentVector<?>) {
+            @SuppressWarnings("unchecked")
+            MyPersistentVector<T> v = (MyPersistentVector<T>) c;
+            return v;
+        }
+        return MyPersistentVector.<T>builder().addAll(c).persistent();
+    }
+
+    static <T> MyPersistentVector<T> wrap(Object[] elementData, int size) { // pentru MyArrayList.toPersistent: array-ul nu se mai schimba in [0, size)
+        return size == 0 ? empty() : new MyPersistentVector<>(elementData, size);
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>(empty());
+    }
+
+    public Builder<T> asTransient() { // O(1); vectorul asta ramane neschimbat
+        return new Builder<>(trie());
+    }
+
+    //Metode
+    private MyPersistentVector<T> trie() { // vectorul ca arbore (pentru cel plat, construit la prima nevoie)
+        if(flat == null) return this;
+        MyPersistentVector<T> t = tree;
+        if(t == null) {
+            Builder<T> b = builder();
+            for(int i = 0; i < size; i++) b.add(MyArrayList.elementAt(flat, i));
+            tree = t = b.persistent();
+        }
+        return t;
+    }
+
+    private static int tailOffset(int size) { // indexul primului element din tail
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int i) { // frunza (sau tail-ul) care contine indexul i, i < size
+        if(i >= tailOffset(size)) return tail;
+        Node node = root;
+        for(int level = shift; level > 0; level -= BITS) node = (Node) node.array[(i >>> level) & MASK];
+        return node.array;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        if(flat != null) return MyArrayList.elementAt(flat, index);
+        return MyArrayList.elementAt(leafFor(index), index & MASK);
+    }
+
+    public MyPersistentVector<T> with(int index, T element) { // versiune noua cu element pe index (index == size adauga la sfarsit)
+        if(index == size) return append(element);
+        Objects.checkIndex(index, size);
+        if(flat != null) return trie().with(index, element);
+        if(index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new MyPersistentVector<>(size, shift, root, newTail);
+        }
+        return new MyPersistentVector<>(size, shift, doAssoc(shift, root, index, element), tail);
+    }
+
+    private static Node doAssoc(int level, Node node, int i, Object element) { // copiaza doar drumul pana la frunza
+        Node ret = new Node(null, node.array.clone());
+        if(level == 0) {
+            ret.array[i & MASK] = element;
+        } else {
+            int sub = (i >>> level) & MASK;
+            ret.array[sub] = doAssoc(level - BITS, (Node) node.array[sub], i, element);
+        }
+        return ret;
+    }
+
+    public MyPersistentVector<T> append(T element) {
+        if(flat != null) return trie().append(element);
+        if(size - tailOffset(size) < WIDTH) { // mai e loc in tail
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new MyPersistentVector<>(size + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(null, tail); // tail plin devine frunza in arbore
+        Node newRoot;
+        int newShift = shift;
+        if((size >>> BITS) > (1 << shift)) { // radacina plina -> un nivel nou deasupra
+            newRoot = new Node(null);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(size, shift, root, tailNode, null);
+        }
+        return new MyPersistentVector<>(size + 1, newShift, newRoot, new Object[] {element});
+    }
+
+    public MyPersistentVector<T> appendAll(Collection<? extends T> c) {
+        if(c.isEmpty()) return this;
+        return asTransient().addAll(c).persistent();
+    }
+
+    public MyPersistentVector<T> pop() { // fara ultimul element
+        if(size == 0) throw new NoSuchElementException();
+        if(size == 1) return empty();
+        if(flat != null) return trie().pop();
+        if(size - tailOffset(size) > 1) {
+            return new MyPersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = leafFor(size - 2); // ultima frunza devine tail; nu se copiaza, oricum nu se mai schimba
+        Node newRoot = popTail(size, shift, root, null);
+        int newShift = shift;
+        if(newRoot == null) newRoot = EMPTY_NODE;
+        if(shift > BITS && newRoot.array[1] == null) { // a ramas un singur fiu -> scoatem un nivel
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new MyPersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    // Functii comune pentru vector si Builder. edit == null -> copiaza nodurile (vector persistent),
+    // altfel le modifica pe loc pe cele create de acelasi Builder.
+
+    private static Node editable(Node node, Object edit) {
+        if(edit != null && node.edit == edit) return node;
+        return new Node(edit, node.array.clone());
+    }
+
+    private static Node newPath(Object edit, int level, Node node) { // lant de noduri noi de la level in jos pana la node
+        if(level == 0) return node;
+        Node ret = new Node(edit);
+        ret.array[0] = newPath(edit, level - BITS, node);
+        return ret;
+    }
+
+    private static Node pushTail(int size, int level, Node parent, Node tailNode, Object edit) { // pune tailNode ca ultima frunza
+        Node ret = editable(parent, edit);
+        int sub = ((size - 1) >>> level) & MASK;
+        Node toInsert;
+        if(level == BITS) {
+            toInsert = tailNode;
+        } else {
+            Node child = (Node) parent.array[sub];
+            toInsert = (child != null) ? pushTail(size, level - BITS, child, tailNode, edit) : newPath(edit, level - BITS, tailNode);
+        }
+        ret.array[sub] = toInsert;
+        return ret;
+    }
+
+    private static Node popTail(int size, int level, Node node, Object edit) { // scoate ultima frunza; null daca nodul ramane gol
+        int sub = ((size - 2) >>> level) & MASK;
+        if(level > BITS) {
+            Node newChild = popTail(size, level - BITS, (Node) node.array[sub], edit);
+            if(newChild == null && sub == 0) return null;
+            Node ret = editable(node, edit);
+            ret.array[sub] = newChild;
+            return ret;
+        } else if(sub == 0) {
+            return null;
+        } else {
+            Node ret = editable(node, edit);
+            ret.array[sub] = null;
+            return ret;
+        }
+    }
+
+    // Parcurgere pe frunze, fara sa coboram prin arbore la fiecare element
+
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if(flat != null) {
+            for(int i = 0; i < size; i++) action.accept(MyArrayList.elementAt(flat, i));
+            return;
+        }
+        for(int i = 0; i < size; i += WIDTH) {
+            Object[] leaf = leafFor(i);
+            for(int j = 0, n = Math.min(WIDTH, size - i); j < n; j++) action.accept(MyArrayList.elementAt(leaf, j));
+        }
+    }
+
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            int cursor;
+            Object[] leaf;
+
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            public T next() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                if(flat != null) return MyArrayList.elementAt(flat, i);
+                if((i & MASK) == 0 || leaf == null) leaf = leafFor(i);
+                return MyArrayList.elementAt(leaf, i & MASK);
+            }
+        };
+    }
+
+    public Object[] toArray() {
+        if(flat != null) return Arrays.copyOf(flat, size);
+        Object[] a = new Object[size];
+        for(int i = 0; i < size; i += WIDTH) System.arraycopy(leafFor(i), 0, a, i, Math.min(WIDTH, size - i));
+        return a;
+    }
+
+    // Builder (vector tranzitoriu)
+
+    public static final class Builder<T> { // nu e thread-safe; dupa persistent() nu mai poate fi folosit
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail; // mereu de WIDTH locuri
+        private Object edit = new Object(); // marcheaza nodurile create de acest Builder; null dupa persistent()
+
+        private Builder(MyPersistentVector<T> v) {
+            size = v.size;
+            shift = v.shift;
+            root = new Node(edit, v.root.array.clone());
+            tail = Arrays.copyOf(v.tail, WIDTH);
+        }
+
+        private void ensureEditable() {
+            if(edit == null) throw new IllegalStateException("Builder-ul a fost deja transformat in vector");
+        }
+
+        private Object[] leafFor(int i) {
+            if(i >= tailOffset(size)) return tail;
+            Node node = root;
+            for(int level = shift; level > 0; level -= BITS) node = (Node) node.array[(i >>> level) & MASK];
+            return node.array;
+        }
+
+        public int size() {
+            ensureEditable();
+            return size;
+        }
+
+        public T get(int index) {
+            ensureEditable();
+            Objects.checkIndex(index, size);
+            return MyArrayList.elementAt(leafFor(index), index & MASK);
+        }
+
+        public Builder<T> add(T element) {
+            ensureEditable();
+            int i = size;
+            if(i - tailOffset(i) < WIDTH) {
+                tail[i & MASK] = element;
+                size = i + 1;
+                return this;
+            }
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+            if((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(size, shift, root, tailNode, edit);
+            }
+            size = i + 1;
+            return this;
+        }
+
+        public Builder<T> addAll(Collection<? extends T> c) {
+            for(T e : c) add(e);
+            return this;
+        }
+
+        public Builder<T> set(int index, T element) { // index == size adauga la sfarsit
+            ensureEditable();
+            if(index == size) return add(element);
+            Objects.checkIndex(index, size);
+            if(index >= tailOffset(size)) {
+                tail[index & MASK] = element;
+            } else {
+                root = doAssoc(shift, root, index, element);
+            }
+            return this;
+        }
+
+        private Node doAssoc(int level, Node node, int i, Object element) {
+            Node ret = editable(node, edit);
+            if(level == 0) {
+                ret.array[i & MASK] = element;
+            } else {
+                int sub = (i >>> level) & MASK;
+                ret.array[sub] = doAssoc(level - BITS, (Node) ret.array[sub], i, element);
+            }
+            return ret;
+        }
+
+        public Builder<T> pop() {
+            ensureEditable();
+            if(size == 0) throw new NoSuchElementException();
+            if(size == 1 || size - tailOffset(size) > 1) {
+                tail[(size - 1) & MASK] = null;
+                size--;
+                return this;
+            }
+            Object[] leaf = leafFor(size - 2);
+            Object[] newTail = (leaf == tail) ? leaf : Arrays.copyOf(leaf, WIDTH); // frunza poate fi a unui vector imutabil
+            Node newRoot = popTail(size, shift, root, edit);
+            if(newRoot == null) newRoot = new Node(edit);
+            if(shift > BITS && newRoot.array[1] == null) {
+                newRoot = editable((Node) newRoot.array[0], edit);
+                shift -= BITS;
+            }
+            root = newRoot;
+            tail = newTail;
+            size--;
+            return this;
+        }
+
+        public MyPersistentVector<T> persistent() { // O(1), doar tail-ul se scurteaza la cate elemente are
+            ensureEditable();
+            edit = null;
+            if(size == 0) return empty();
+            return new MyPersistentVector<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+    }
+}
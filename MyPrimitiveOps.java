@@ -0,0 +1,152 @@
+package Collections;
+
+// Cautare / hash / min / max / suma pentru listele primitive.
+// Daca modulul jdk.incubator.vector e incarcat, merge pe MyVectorOps (SIMD); altfel buclele scalare de aici.
+// VECTOR e constanta, deci JIT-ul pastreaza doar una din ramuri.
+// equals si fill nu sunt aici: Arrays.equals si Arrays.fill sunt deja vectorizate de JVM.
+final class MyPrimitiveOps {
+
+    static final boolean VECTOR = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && !Boolean.getBoolean("collections.noVector"); // -Dcollections.noVector=true forteaza varianta scalara (pentru comparatii)
+
+    private MyPrimitiveOps() {}
+
+    // int
+
+    static int indexOf(int[] a, int from, int to, int value) {
+        if(VECTOR) return MyVectorOps.indexOf(a, from, to, value);
+        for(int i = from; i < to; i++) {
+            if(a[i] == value) return i;
+        }
+        return -1;
+    }
+
+    static int lastIndexOf(int[] a, int from, int to, int value) {
+        if(VECTOR) return MyVectorOps.lastIndexOf(a, from, to, value);
+        for(int i = to - 1; i >= from; i--) {
+            if(a[i] == value) return i;
+        }
+        return -1;
+    }
+
+    static int hashCode(int[] a, int from, int to) {
+        if(VECTOR) return MyVectorOps.hashCode(a, from, to);
+        int h = 1;
+        for(int i = from; i < to; i++) h = 31 * h + a[i];
+        return h;
+    }
+
+    static int min(int[] a, int from, int to) {
+        if(VECTOR) return MyVectorOps.min(a, from, to);
+        int m = Integer.MAX_VALUE;
+        for(int i = from; i < to; i++) m = Math.min(m, a[i]);
+        return m;
+    }
+
+    static int max(int[] a, int from, int to) {
+        if(VECTOR) return MyVectorOps.max(a, from, to);
+        int m = Integer.MIN_VALUE;
+        for(int i = from; i < to; i++) m = Math.max(m, a[i]);
+        return m;
+    }
+
+    static long sum(int[] a, int from, int to) { // fara Vector API: C2 vectorizeaza singur bucla asta si iese mai rapida
+        long s = 0;
+        for(int i = from; i < to; i++) s += a[i];
+        return s;
+    }
+
+    // long
+
+    static int indexOf(long[] a, int from, int to, long value) {
+        if(VECTOR) return MyVectorOps.indexOf(a, from, to, value);
+        for(int i = from; i < to; i++) {
+            if(a[i] == value) return i;
+        }
+        return -1;
+    }
+
+    static int lastIndexOf(long[] a, int from, int to, long value) {
+        if(VECTOR) return MyVectorOps.lastIndexOf(a, from, to, value);
+        for(int i = to - 1; i >= from; i--) {
+            if(a[i] == value) return i;
+        }
+        return -1;
+    }
+
+    static int hashCode(long[] a, int from, int to) {
+        if(VECTOR) return MyVectorOps.hashCode(a, from, to);
+        int h = 1;
+        for(int i = from; i < to; i++) h = 31 * h + Long.hashCode(a[i]);
+        return h;
+    }
+
+    static long min(long[] a, int from, int to) {
+        if(VECTOR) return MyVectorOps.min(a, from, to);
+        long m = Long.MAX_VALUE;
+        for(int i = from; i < to; i++) m = Math.min(m, a[i]);
+        return m;
+    }
+
+    static long max(long[] a, int from, int to) {
+        if(VECTOR) return MyVectorOps.max(a, from, to);
+        long m = Long.MIN_VALUE;
+        for(int i = from; i < to; i++) m = Math.max(m, a[i]);
+        return m;
+    }
+
+    static long sum(long[] a, int from, int to) {
+        if(VECTOR) return MyVectorOps.sum(a, from, to);
+        long s = 0;
+        for(int i = from; i < to; i++) s += a[i];
+        return s;
+    }
+
+    // double (egalitate ca la Double.equals)
+
+    static int indexOf(double[] a, int from, int to, double value) {
+        if(VECTOR) return MyVectorOps.indexOf(a, from, to, value);
+        final long bits = Double.doubleToLongBits(value);
+        for(int i = from; i < to; i++) {
+            if(Double.doubleToLongBits(a[i]) == bits) return i;
+        }
+        return -1;
+    }
+
+    static int lastIndexOf(double[] a, int from, int to, double value) {
+        if(VECTOR) return MyVectorOps.lastIndexOf(a, from, to, value);
+        final long bits = Double.doubleToLongBits(value);
+        for(int i = to - 1; i >= from; i--) {
+            if(Double.doubleToLongBits(a[i]) == bits) return i;
+        }
+        return -1;
+    }
+
+    static int hashCode(double[] a, int from, int to) {
+        if(VECTOR) return MyVectorOps.hashCode(a, from, to);
+        int h = 1;
+        for(int i = from; i < to; i++) h = 31 * h + Double.hashCode(a[i]);
+        return h;
+    }
+
+    static double min(double[] a, int from, int to) {
+        if(VECTOR) return MyVectorOps.min(a, from, to);
+        double m = Double.POSITIVE_INFINITY;
+        for(int i = from; i < to; i++) m = Math.min(m, a[i]);
+        return m;
+    }
+
+    static double max(double[] a, int from, int to) {
+        if(VECTOR) return MyVectorOps.max(a, from, to);
+        double m = Double.NEGATIVE_INFINITY;
+        for(int i = from; i < to; i++) m = Math.max(m, a[i]);
+        return m;
+    }
+
+    static double sum(double[] a, int from, int to) {
+        if(VECTOR) return MyVectorOps.sum(a, from, to);
+        double s = 0;
+        for(int i = from; i < to; i++) s += a[i];
+        return s;
+    }
+}
@@ -0,0 +1,396 @@
+package Collections;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.*;
+
+// Varianta MyArrayList cu elementData folosit ca buffer circular: elementul logic i sta la (head + i) % elementData.length.
+// get/set raman O(1), add/remove la ambele capete sunt O(1) amortizat,
+// iar la mijloc se muta doar partea mai scurta (din stanga sau din dreapta pozitiei).
+public class MyRingArrayList<T> extends AbstractList<T> implements List<T>, RandomAccess, Cloneable {
+
+    // Variabile
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final Object[] EMPTY_ELEMENTDATA = {};
+    private static final Object[] DEFAULTCAPACITY_EMPTY_ELEMENTDATA = {};
+
+    transient Object[] elementData;
+    private int head; // pozitia fizica a primului element
+    private int size;
+
+    // Constructore
+    MyRingArrayList(int initialCapacity) {
+        if(initialCapacity > 0) {
+            elementData = new Object[initialCapacity];
+        } else if(initialCapacity == 0) {
+            elementData = EMPTY_ELEMENTDATA;
+        } else {
+            throw new IllegalArgumentException("Capacitatea gresita: " + initialCapacity);
+        }
+    }
+
+    MyRingArrayList() {
+        elementData = DEFAULTCAPACITY_EMPTY_ELEMENTDATA;
+    }
+
+    MyRingArrayList(Collection<? extends T> c) {
+        Object[] _obj = c.toArray();
+        if((size = _obj.length) != 0) {
+            elementData = Arrays.copyOf(_obj, size, Object[].class);
+        } else {
+            elementData = EMPTY_ELEMENTDATA;
+        }
+    }
+
+    //Metode
+    private int physical(int index) { // pozitia fizica pentru indexul logic (index < elementData.length)
+        int p = head + index;
+        int length = elementData.length;
+        return p >= length ? p - length : p;
+    }
+
+    private Object[] unwrap(int newCapacity) { // copiaza elementele in ordine logica intr-un array nou, cu head = 0
+        Object[] a = new Object[newCapacity];
+        int firstPart = Math.min(size, elementData.length - head);
+        System.arraycopy(elementData, head, a, 0, firstPart);
+        System.arraycopy(elementData, 0, a, firstPart, size - firstPart);
+        return a;
+    }
+
+    public void trimToSize() {
+        modCount++;
+        if(size < elementData.length) {
+            elementData = (size == 0) ? EMPTY_ELEMENTDATA : unwrap(size);
+            head = 0;
+        }
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elementData.length && !(elementData == DEFAULTCAPACITY_EMPTY_ELEMENTDATA && minCapacity <= DEFAULT_CAPACITY)) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    private Object[] grow(int minCapacity) { // aceeasi politica ca MyArrayList, dar "desfacem" cercul la copiere
+        int oldCapacity = elementData.length;
+        if(oldCapacity > 0 || elementData != DEFAULTCAPACITY_EMPTY_ELEMENTDATA) {
+            elementData = unwrap(MyArrayList.MyNewLength(oldCapacity, minCapacity - oldCapacity, oldCapacity >> 1));
+        } else {
+            elementData = new Object[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+        head = 0;
+        return elementData;
+    }
+
+    // muta n elemente de la indexul logic src la dst, in bucati continue; merge si cand bucatile se suprapun
+    private void moveRange(int src, int dst, int n) {
+        final Object[] a = elementData;
+        final int length = a.length;
+        if(dst < src) { // mutam spre stanga -> copiem de la inceput
+            while(n > 0) {
+                int s = physical(src), d = physical(dst);
+                int run = Math.min(n, Math.min(length - s, length - d));
+                System.arraycopy(a, s, a, d, run);
+                src += run;
+                dst += run;
+                n -= run;
+            }
+        } else if(dst > src) { // mutam spre dreapta -> copiem de la sfarsit
+            while(n > 0) {
+                int s = physical(src + n - 1), d = physical(dst + n - 1);
+                int run = Math.min(n, Math.min(s + 1, d + 1));
+                System.arraycopy(a, s - run + 1, a, d - run + 1, run);
+                n -= run;
+            }
+        }
+    }
+
+    private void clearRange(int from, int to) { // face null pozitiile logice [from, to)
+        for(int i = from; i < to; i++) elementData[physical(i)] = null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(Object obj) {
+        return indexOf(obj) >= 0;
+    }
+
+    public int indexOf(Object obj) {
+        final Object[] temp = elementData;
+        for(int i = 0; i < size; i++) {
+            if(Objects.equals(obj, temp[physical(i)])) return i;
+        }
+        return -1;
+    }
+
+    public int lastIndexOf(Object obj) {
+        final Object[] temp = elementData;
+        for(int i = size - 1; i >= 0; i--) {
+            if(Objects.equals(obj, temp[physical(i)])) return i;
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    public MyRingArrayList<T> clone() {
+        try {
+            MyRingArrayList<T> v = (MyRingArrayList<T>) super.clone();
+            v.elementData = unwrap(size);
+            v.head = 0;
+            v.modCount = 0;
+            return v;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
+    public Object[] toArray() {
+        return unwrap(size);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <U> U[] toArray(U[] arr) {
+        Object[] a = unwrap(size);
+        if(arr.length < size) return (U[]) Arrays.copyOf(a, size, arr.getClass());
+        System.arraycopy(a, 0, arr, 0, size);
+        if(arr.length > size) arr[size] = null;
+        return arr;
+    }
+
+    // Acces dupa pozitie
+
+    @SuppressWarnings("unchecked")
+    T elementData(int index) {
+        return (T) elementData[physical(index)];
+    }
+
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return elementData(index);
+    }
+
+    public T getFirst() {
+        if(size == 0) throw new NoSuchElementException();
+        return elementData(0);
+    }
+
+    public T getLast() {
+        if(size == 0) throw new NoSuchElementException();
+        return elementData(size - 1);
+    }
+
+    public T set(int index, T element) {
+        Objects.checkIndex(index, size);
+        int p = physical(index);
+        @SuppressWarnings("unchecked")
+        T oldValue = (T) elementData[p];
+        elementData[p] = element;
+        return oldValue;
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if( index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: "+index+", Dimeansiunea: "+size);
+        }
+    }
+
+    public boolean add(T e) {
+        addLast(e);
+        return true;
+    }
+
+    public void addLast(T element) { // O(1) amortizat
+        modCount++;
+        if(size == elementData.length) grow(size + 1);
+        elementData[physical(size)] = element;
+        size++;
+    }
+
+    public void addFirst(T element) { // O(1) amortizat: head se muta cu o pozitie in urma
+        modCount++;
+        if(size == elementData.length) grow(size + 1);
+        head = (head == 0 ? elementData.length : head) - 1;
+        elementData[head] = element;
+        size++;
+    }
+
+    public void add(int index, T element) { // muta doar partea mai scurta
+        rangeCheckForAdd(index);
+        if(index == size) {
+            addLast(element);
+        } else if(index == 0) {
+            addFirst(element);
+        } else {
+            modCount++;
+            if(size == elementData.length) grow(size + 1);
+            if(index < size >> 1) {
+                head = (head == 0 ? elementData.length : head) - 1;
+                moveRange(1, 0, index);
+            } else {
+                moveRange(index, index + 1, size - index);
+            }
+            elementData[physical(index)] = element;
+            size++;
+        }
+    }
+
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        T oldValue = elementData(index);
+        fastRemove(index);
+        return oldValue;
+    }
+
+    private void fastRemove(int index) { // inchide golul mutand partea mai scurta
+        modCount++;
+        if(index < size >> 1) {
+            moveRange(0, 1, index);
+            elementData[head] = null;
+            head = physical(1);
+        } else {
+            moveRange(index + 1, index, size - index - 1);
+            elementData[physical(size - 1)] = null;
+        }
+        if(--size == 0) head = 0;
+    }
+
+    public T removeFirst() {
+        if(size == 0) throw new NoSuchElementException();
+        T oldValue = elementData(0);
+        fastRemove(0);
+        return oldValue;
+    }
+
+    public T removeLast() {
+        if(size == 0) throw new NoSuchElementException();
+        T oldValue = elementData(size - 1);
+        fastRemove(size - 1);
+        return oldValue;
+    }
+
+    public boolean remove(Object obj) {
+        int i = indexOf(obj);
+        if(i < 0) return false;
+        fastRemove(i);
+        return true;
+    }
+
+    public void clear() {
+        modCount++;
+        clearRange(0, size);
+        head = size = 0;
+    }
+
+    public boolean addAll(Collection<? extends T> c) {
+        return addAll(size, c);
+    }
+
+    public boolean addAll(int index, Collection<? extends T> c) {
+        rangeCheckForAdd(index);
+        Object[] arr = c.toArray();
+        modCount++;
+        int numNew = arr.length;
+        if(numNew == 0) return false;
+        if(numNew > elementData.length - size) grow(size + numNew);
+        if(index < size >> 1) { // facem loc in stanga
+            head = physical(elementData.length - numNew);
+            moveRange(numNew, 0, index);
+        } else {
+            moveRange(index, index + numNew, size - index);
+        }
+        for(int i = 0; i < numNew; i++) elementData[physical(index + i)] = arr[i];
+        size += numNew;
+        return true;
+    }
+
+    protected void removeRange(int fromIndex, int toIndex) {
+        if(fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Din Index: " + fromIndex + " > Pana Index: " + toIndex);
+        }
+        modCount++;
+        int removed = toIndex - fromIndex;
+        if(removed == 0) return;
+        if(fromIndex < size - toIndex) { // mai putine elemente in stanga
+            moveRange(0, removed, fromIndex);
+            clearRange(0, removed);
+            head = physical(removed);
+        } else {
+            moveRange(toIndex, fromIndex, size - toIndex);
+            clearRange(size - removed, size);
+        }
+        if((size -= removed) == 0) head = 0;
+    }
+
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final int size = this.size;
+        for (int i = 0; modCount == expectedModCount && i < size; i++) {
+            action.accept(elementData(i));
+        }
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    public boolean removeIf(Predicate<? super T> filter) { // deathRow ca in MyArrayList, dar pe indexuri logice
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        final int end = size;
+        int i = 0;
+        for(; i < end && !filter.test(elementData(i)); i++);
+        if(i < end) {
+            final int beg = i;
+            final long[] deathRow = MyArrayList.nBits(end - beg);
+            deathRow[0] = 1L;
+            for(i = beg + 1; i < end; i++) {
+                if(filter.test(elementData(i))) MyArrayList.setBit(deathRow, i - beg);
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+            int w = beg;
+            for(i = beg; i < end; i++) {
+                if(MyArrayList.isClear(deathRow, i - beg)) elementData[physical(w++)] = elementData[physical(i)];
+            }
+            clearRange(w, end);
+            if((size = w) == 0) head = 0;
+            return true;
+        } else {
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            return false;
+        }
+    }
+
+    public void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        for(int i = 0; modCount == expectedModCount && i < size; i++) {
+            int p = physical(i);
+            elementData[p] = operator.apply(elementAt(elementData, p));
+        }
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T elementAt(Object[] temp, int index) {
+        return (T) temp[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> c) { // daca cercul e "rupt", il facem continuu inainte de Arrays.sort
+        final int expectedModCount = modCount;
+        if(head + size > elementData.length) {
+            elementData = unwrap(elementData.length);
+            head = 0;
+        }
+        Arrays.sort((T[]) elementData, head, head + size, c);
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        modCount++;
+    }
+}
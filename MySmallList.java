@@ -0,0 +1,220 @@
+package Collections;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.function.Consumer;
+import java.util.*;
+
+// Lista pentru foarte putine elemente (liste de vecini, 0 - 3 elemente), cand avem zeci de milioane de liste.
+// Pana la INLINE elemente ele stau direct in campurile e0, e1, e2, fara array separat: o lista e un singur obiect de 32 de octeti
+// (cu compressed oops), fata de MyArrayList (40 de octeti + array de cel putin 10 locuri, 56 de octeti).
+// Peste INLINE trece singura pe array (tinut in e0), iar cand scade iar la INLINE elemente se intoarce in campuri.
+// Comportament ca la orice List (iterator cu ConcurrentModificationException, subList, equals / hashCode) din AbstractList.
+public class MySmallList<T> extends AbstractList<T> implements List<T>, RandomAccess, Cloneable, Serializable {
+
+    // Variabile
+    private static final long serialVersionUID = 1L;
+    static final int INLINE = 3; // cate elemente incap in campuri
+    private static final int FIRST_CAPACITY = 8; // array-ul de la trecerea peste INLINE
+
+    private transient Object e0, e1, e2; // elementele 0..2 cand size <= INLINE; altfel e0 e array-ul cu toate elementele, e1 si e2 sunt null
+    private int size;
+
+    // Constructore
+    MySmallList() {
+    }
+
+    MySmallList(Collection<? extends T> c) {
+        Object[] a = c.toArray();
+        if(a.length > INLINE) {
+            e0 = Arrays.copyOf(a, a.length, Object[].class);
+            size = a.length;
+        } else {
+            for(int i = 0; i < a.length; i++) setField(i, a[i]);
+            size = a.length;
+        }
+    }
+
+    //Metode
+    private boolean inline() {
+        return size <= INLINE;
+    }
+
+    private Object[] array() { // doar cand !inline()
+        return (Object[]) e0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T elementAt(Object[] a, int i) {
+        return (T) a[i];
+    }
+
+    @SuppressWarnings("unchecked")
+    private T field(int i) { // elementul i, cand inline()
+        return (T) (i == 0 ? e0 : i == 1 ? e1 : e2);
+    }
+
+    private void setField(int i, Object e) {
+        if(i == 0) e0 = e;
+        else if(i == 1) e1 = e;
+        else e2 = e;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return inline() ? field(index) : elementAt(array(), index);
+    }
+
+    public T set(int index, T element) {
+        Objects.checkIndex(index, size);
+        T old;
+        if(inline()) {
+            old = field(index);
+            setField(index, element);
+        } else {
+            Object[] a = array();
+            old = elementAt(a, index);
+            a[index] = element;
+        }
+        return old;
+    }
+
+    public boolean add(T e) {
+        add(size, e);
+        return true;
+    }
+
+    public void add(int index, T element) {
+        final int s = size;
+        if(index < 0 || index > s) throw new IndexOutOfBoundsException("Index: " + index + ", Dimensiunea: " + s);
+        modCount++;
+        if(s < INLINE) { // mai e loc in campuri: mutam cu unul la dreapta de la coada pana la index
+            for(int i = s; i > index; i--) setField(i, field(i - 1));
+            setField(index, element);
+        } else {
+            Object[] a;
+            if(s == INLINE) { // trecem pe array
+                a = new Object[FIRST_CAPACITY];
+                a[0] = e0;
+                a[1] = e1;
+                a[2] = e2;
+                e1 = e2 = null;
+            } else {
+                a = array();
+                if(s == a.length) a = Arrays.copyOf(a, MyArrayList.MyNewLength(s, 1, s >> 1));
+            }
+            System.arraycopy(a, index, a, index + 1, s - index);
+            a[index] = element;
+            e0 = a;
+        }
+        size = s + 1;
+    }
+
+    public T remove(int index) {
+        final int s = size;
+        Objects.checkIndex(index, s);
+        modCount++;
+        T old;
+        if(s <= INLINE) {
+            old = field(index);
+            for(int i = index; i < s - 1; i++) setField(i, field(i + 1));
+            setField(s - 1, null);
+        } else {
+            Object[] a = array();
+            old = elementAt(a, index);
+            System.arraycopy(a, index + 1, a, index, s - 1 - index);
+            a[s - 1] = null;
+            if(s - 1 == INLINE) { // inapoi in campuri, array-ul ramane la GC
+                e0 = a[0];
+                e1 = a[1];
+                e2 = a[2];
+            }
+        }
+        size = s - 1;
+        return old;
+    }
+
+    public void clear() {
+        modCount++;
+        e0 = e1 = e2 = null;
+        size = 0;
+    }
+
+    public int indexOf(Object o) {
+        for(int i = 0, s = size; i < s; i++) {
+            if(Objects.equals(o, get(i))) return i;
+        }
+        return -1;
+    }
+
+    public int lastIndexOf(Object o) {
+        for(int i = size - 1; i >= 0; i--) {
+            if(Objects.equals(o, get(i))) return i;
+        }
+        return -1;
+    }
+
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    public Object[] toArray() {
+        final int s = size;
+        if(!inline()) return Arrays.copyOf(array(), s);
+        Object[] a = new Object[s];
+        for(int i = 0; i < s; i++) a[i] = field(i);
+        return a;
+    }
+
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        for(int i = 0, s = size; i < s && modCount == expectedModCount; i++) action.accept(get(i));
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream s) throws IOException { // size, apoi elementele, fara capacitatea libera a array-ului
+        final int expectedModCount = modCount;
+        s.defaultWriteObject(); // scrie size
+        for(int i = 0; i < size; i++) s.writeObject(get(i));
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject(); // citeste size
+        final int n = size;
+        if(n < 0) throw new InvalidObjectException("Dimensiunea gresita: " + n);
+        if(n > INLINE) {
+            Object[] a = new Object[n];
+            for(int i = 0; i < n; i++) a[i] = s.readObject();
+            e0 = a;
+        } else {
+            for(int i = 0; i < n; i++) setField(i, s.readObject());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public MySmallList<T> clone() {
+        try {
+            MySmallList<T> v = (MySmallList<T>) super.clone();
+            if(!inline()) v.e0 = array().clone();
+            v.modCount = 0;
+            return v;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+}
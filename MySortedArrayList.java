@@ -0,0 +1,368 @@
+package Collections;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.*;
+
+// Lista tinuta mereu sortata dupa comparator (sau ordinea naturala daca comparator e null), peste acelasi elementData ca MyArrayList.
+// add pune elementul la locul lui cu cautare binara (dupa elementele egale cu el, deci ordinea de adaugare se pastreaza),
+// indexOf / lastIndexOf / contains / remove(Object) sunt O(log n), iar addAll sorteaza doar elementele noi si le interclaseaza
+// cu cele existente intr-o singura trecere O(n + m).
+// "Egal" inseamna compare(a, b) == 0 (ca la TreeSet), nu equals. Cu ordinea naturala null nu e permis (NullPointerException).
+// Operatiile care ar strica ordinea (set, add pe index, replaceAll, sort) arunca UnsupportedOperationException.
+public class MySortedArrayList<T> extends AbstractList<T> implements List<T>, RandomAccess, Cloneable {
+
+    // Variabile
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final Object[] EMPTY_ELEMENTDATA = {};
+    private static final Object[] DEFAULTCAPACITY_EMPTY_ELEMENTDATA = {};
+
+    transient Object[] elementData;
+    private int size;
+    private final Comparator<? super T> comparator; // null -> ordinea naturala
+
+    // Constructore
+    MySortedArrayList(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+        elementData = DEFAULTCAPACITY_EMPTY_ELEMENTDATA;
+    }
+
+    MySortedArrayList() {
+        this((Comparator<? super T>) null);
+    }
+
+    MySortedArrayList(Collection<? extends T> c, Comparator<? super T> comparator) {
+        this.comparator = comparator;
+        Object[] _obj = c.toArray();
+        if((size = _obj.length) != 0) {
+            elementData = Arrays.copyOf(_obj, size, Object[].class);
+            sortArray(elementData, size);
+        } else {
+            elementData = EMPTY_ELEMENTDATA;
+        }
+    }
+
+    MySortedArrayList(Collection<? extends T> c) {
+        this(c, null);
+    }
+
+    //Metode
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        return comparator == null ? ((Comparable<Object>) a).compareTo(b) : comparator.compare((T) a, (T) b);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void sortArray(Object[] a, int n) { // stabil, ca elementele egale sa ramana in ordinea data
+        if(comparator == null && n == 1) Objects.requireNonNull(a[0]); // de la 2 elemente in sus compareTo arunca singur NPE pentru null
+        Arrays.sort((T[]) a, 0, n, (Comparator<? super T>) (comparator == null ? Comparator.naturalOrder() : comparator));
+    }
+
+    private int lowerBound(Object key) { // primul index cu elementul >= key (size daca nu exista)
+        final Object[] temp = elementData;
+        int lo = 0, hi = size;
+        while(lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if(compare(temp[mid], key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private int upperBound(Object key) { // primul index cu elementul > key (size daca nu exista)
+        final Object[] temp = elementData;
+        int lo = 0, hi = size;
+        while(lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if(compare(temp[mid], key) <= 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    public void trimToSize() {
+        modCount++;
+        if(size < elementData.length) {
+            elementData = (size == 0) ? EMPTY_ELEMENTDATA : Arrays.copyOf(elementData, size);
+        }
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elementData.length && !(elementData == DEFAULTCAPACITY_EMPTY_ELEMENTDATA && minCapacity <= DEFAULT_CAPACITY)) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    private Object[] grow(int minCapacity) { // aceeasi politica ca MyArrayList
+        int oldCapacity = elementData.length;
+        if(oldCapacity > 0 || elementData != DEFAULTCAPACITY_EMPTY_ELEMENTDATA) {
+            int newCapacity = MyArrayList.MyNewLength(oldCapacity, minCapacity - oldCapacity, oldCapacity >> 1);
+            return elementData = Arrays.copyOf(elementData, newCapacity);
+        } else {
+            return elementData = new Object[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return MyArrayList.elementAt(elementData, index);
+    }
+
+    public T getFirst() {
+        if(size == 0) throw new NoSuchElementException();
+        return MyArrayList.elementAt(elementData, 0);
+    }
+
+    public T getLast() {
+        if(size == 0) throw new NoSuchElementException();
+        return MyArrayList.elementAt(elementData, size - 1);
+    }
+
+    // Cautari, toate O(log n)
+
+    public int indexOf(Object obj) { // primul element egal cu obj
+        int i = lowerBound(obj);
+        return (i < size && compare(elementData[i], obj) == 0) ? i : -1;
+    }
+
+    public int lastIndexOf(Object obj) {
+        int i = upperBound(obj) - 1;
+        return (i >= 0 && compare(elementData[i], obj) == 0) ? i : -1;
+    }
+
+    public boolean contains(Object obj) {
+        return indexOf(obj) >= 0;
+    }
+
+    public T floor(T key) { // cel mai mare element <= key, sau null
+        int i = upperBound(key) - 1;
+        return i >= 0 ? MyArrayList.elementAt(elementData, i) : null;
+    }
+
+    public T ceiling(T key) { // cel mai mic element >= key, sau null
+        int i = lowerBound(key);
+        return i < size ? MyArrayList.elementAt(elementData, i) : null;
+    }
+
+    public T lower(T key) { // cel mai mare element < key, sau null
+        int i = lowerBound(key) - 1;
+        return i >= 0 ? MyArrayList.elementAt(elementData, i) : null;
+    }
+
+    public T higher(T key) { // cel mai mic element > key, sau null
+        int i = upperBound(key);
+        return i < size ? MyArrayList.elementAt(elementData, i) : null;
+    }
+
+    public List<T> subListByValue(T from, T to) { // elementele din [from, to), ca view (subList) peste lista
+        return subListByValue(from, true, to, false);
+    }
+
+    public List<T> subListByValue(T from, boolean fromInclusive, T to, boolean toInclusive) {
+        if(compare(from, to) > 0) throw new IllegalArgumentException("from > to");
+        int lo = fromInclusive ? lowerBound(from) : upperBound(from);
+        int hi = toInclusive ? upperBound(to) : lowerBound(to);
+        return subList(lo, Math.max(lo, hi));
+    }
+
+    // Adaugare
+
+    public boolean add(T e) { // dupa elementele egale cu e
+        if(comparator == null) Objects.requireNonNull(e); // ca la TreeSet: in lista goala nu s-ar compara cu nimic si null ar strica toate compareTo de dupa
+        int i = upperBound(e);
+        modCount++;
+        final int s = size;
+        Object[] elementData = this.elementData;
+        if(s == elementData.length) elementData = grow(s + 1);
+        System.arraycopy(elementData, i, elementData, i + 1, s - i);
+        elementData[i] = e;
+        size = s + 1;
+        return true;
+    }
+
+    public boolean addAll(Collection<? extends T> c) { // sortam doar c, apoi interclasam de la coada direct in elementData
+        Object[] arr = c.toArray();
+        int numNew = arr.length;
+        if(numNew == 0) return false;
+        sortArray(arr, numNew); // TimSort: daca c e deja sortat, e doar o trecere O(m)
+        modCount++;
+        final int s = size;
+        Object[] elementData = this.elementData;
+        if(numNew > elementData.length - s) elementData = grow(s + numNew);
+        int i = s - 1, j = numNew - 1, k = s + numNew - 1;
+        while(j >= 0) { // la egalitate punem intai elementul nou (ajunge dupa cele vechi)
+            if(i >= 0 && compare(elementData[i], arr[j]) > 0) elementData[k--] = elementData[i--];
+            else elementData[k--] = arr[j--];
+        }
+        size = s + numNew;
+        return true;
+    }
+
+    public void add(int index, T element) {
+        throw new UnsupportedOperationException("Lista sortata: pozitia o alege add(e)");
+    }
+
+    public boolean addAll(int index, Collection<? extends T> c) {
+        throw new UnsupportedOperationException("Lista sortata: pozitia o alege addAll(c)");
+    }
+
+    public void addFirst(T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addLast(T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    public T set(int index, T element) {
+        throw new UnsupportedOperationException("Lista sortata: set ar strica ordinea");
+    }
+
+    public void replaceAll(UnaryOperator<T> operator) {
+        throw new UnsupportedOperationException("Lista sortata: replaceAll ar strica ordinea");
+    }
+
+    public void sort(Comparator<? super T> c) {
+        throw new UnsupportedOperationException("Lista sortata: ordinea e data de comparator()");
+    }
+
+    // Stergere
+
+    private void fastRemove(int i) {
+        modCount++;
+        final int newSize = size - 1;
+        if(newSize > i) System.arraycopy(elementData, i + 1, elementData, i, newSize - i);
+        elementData[size = newSize] = null;
+    }
+
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        T oldValue = MyArrayList.elementAt(elementData, index);
+        fastRemove(index);
+        return oldValue;
+    }
+
+    public T removeFirst() {
+        if(size == 0) throw new NoSuchElementException();
+        return remove(0);
+    }
+
+    public T removeLast() {
+        if(size == 0) throw new NoSuchElementException();
+        return remove(size - 1);
+    }
+
+    public boolean remove(Object obj) { // primul element egal cu obj
+        int i = indexOf(obj);
+        if(i < 0) return false;
+        fastRemove(i);
+        return true;
+    }
+
+    public void clear() {
+        modCount++;
+        Arrays.fill(elementData, 0, size, null);
+        size = 0;
+    }
+
+    protected void removeRange(int fromIndex, int toIndex) { // pentru subList(...).clear() si subListByValue(...).clear()
+        if(fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Din Index: " + fromIndex + " > Pana Index: " + toIndex);
+        }
+        modCount++;
+        shiftTailOverGap(fromIndex, toIndex);
+    }
+
+    private void shiftTailOverGap(int fromIndex, int toIndex) {
+        final Object[] temp = elementData;
+        System.arraycopy(temp, toIndex, temp, fromIndex, size - toIndex);
+        for(int to = size, i = (size -= toIndex - fromIndex); i < to; i++) temp[i] = null;
+    }
+
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        Collection<?> fast = MyArrayList.fastContains(c, size);
+        return removeIf(fast::contains);
+    }
+
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        Collection<?> fast = MyArrayList.fastContains(c, size);
+        return removeIf(e -> !fast.contains(e));
+    }
+
+    public boolean removeIf(Predicate<? super T> filter) { // deathRow ca in MyArrayList; stergerea nu strica ordinea
+        Objects.requireNonNull(filter);
+        final int expectedModCount = modCount;
+        final Object[] temp = elementData;
+        final int end = size;
+        int i = 0;
+        for(; i < end && !filter.test(MyArrayList.elementAt(temp, i)); i++);
+        if(i == end) {
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            return false;
+        }
+        final int beg = i;
+        final long[] deathRow = MyArrayList.nBits(end - beg);
+        deathRow[0] = 1L;
+        for(i = beg + 1; i < end; i++) {
+            if(filter.test(MyArrayList.elementAt(temp, i))) MyArrayList.setBit(deathRow, i - beg);
+        }
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        modCount++;
+        int w = beg;
+        for(i = beg; i < end; i++) {
+            if(MyArrayList.isClear(deathRow, i - beg)) temp[w++] = temp[i];
+        }
+        shiftTailOverGap(w, end);
+        return true;
+    }
+
+    // Rest
+
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final Object[] temp = elementData;
+        final int s = size;
+        for(int i = 0; modCount == expectedModCount && i < s; i++) action.accept(MyArrayList.elementAt(temp, i));
+        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    public Object[] toArray() {
+        return Arrays.copyOf(elementData, size);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <U> U[] toArray(U[] arr) {
+        if(arr.length < size) return (U[]) Arrays.copyOf(elementData, size, arr.getClass());
+        System.arraycopy(elementData, 0, arr, 0, size);
+        if(arr.length > size) arr[size] = null;
+        return arr;
+    }
+
+    @SuppressWarnings("unchecked")
+    public MySortedArrayList<T> clone() {
+        try {
+            MySortedArrayList<T> v = (MySortedArrayList<T>) super.clone();
+            v.elementData = Arrays.copyOf(elementData, size);
+            v.modCount = 0;
+            return v;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package Collections;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Implementari cu Vector API (jdk.incubator.vector) pentru listele primitive.
+// Nu se apeleaza direct: MyPrimitiveOps o foloseste doar daca modulul e incarcat (--add-modules jdk.incubator.vector),
+// altfel clasa asta nici nu se incarca. Coada care nu umple un vector intreg se face cu bucla scalara.
+final class MyVectorOps {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final long CANONICAL_NAN = Double.doubleToLongBits(Double.NaN);
+
+    // 31^(L-1), ..., 31, 1 si 31^L, pentru hashCode pe bucati de L elemente (aritmetica int, modulo 2^32 ca in List.hashCode)
+    private static final int[] INT_COEFFS = coefficients(INTS.length());
+    private static final int INT_STEP = power31(INTS.length());
+    private static final int[] LONG_COEFFS = coefficients(LONGS.length());
+    private static final int LONG_STEP = power31(LONGS.length());
+    private static final int[] DOUBLE_COEFFS = coefficients(DOUBLES.length());
+    private static final int DOUBLE_STEP = power31(DOUBLES.length());
+
+    private MyVectorOps() {}
+
+    private static int[] coefficients(int lanes) {
+        int[] c = new int[lanes];
+        for(int i = lanes - 1, p = 1; i >= 0; i--, p *= 31) c[i] = p;
+        return c;
+    }
+
+    private static int power31(int n) {
+        int p = 1;
+        for(int i = 0; i < n; i++) p *= 31;
+        return p;
+    }
+
+    private static long[] widen(int[] c) { // doar cei 32 de biti de jos conteaza, deci putem inmulti in long
+        long[] w = new long[c.length];
+        for(int i = 0; i < c.length; i++) w[i] = c[i];
+        return w;
+    }
+
+    private static final LongVector LONG_COEFF_VECTOR = LongVector.fromArray(LONGS, widen(LONG_COEFFS), 0);
+    private static final LongVector DOUBLE_COEFF_VECTOR = LongVector.fromArray(VectorSpecies.of(long.class, DOUBLES.vectorShape()), widen(DOUBLE_COEFFS), 0);
+    private static final IntVector INT_COEFF_VECTOR = IntVector.fromArray(INTS, INT_COEFFS, 0);
+
+    // int
+
+    static int indexOf(int[] a, int from, int to, int value) {
+        int i = from;
+        for(int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            VectorMask<Integer> m = IntVector.fromArray(INTS, a, i).eq(value);
+            if(m.anyTrue()) return i + m.firstTrue();
+        }
+        for(; i < to; i++) {
+            if(a[i] == value) return i;
+        }
+        return -1;
+    }
+
+    static int lastIndexOf(int[] a, int from, int to, int value) {
+        int i = to;
+        for(int bound = to - INTS.loopBound(to - from); i > bound; ) {
+            i -= INTS.length();
+            VectorMask<Integer> m = IntVector.fromArray(INTS, a, i).eq(value);
+            if(m.anyTrue()) return i + m.lastTrue();
+        }
+        for(i--; i >= from; i--) {
+            if(a[i] == value) return i;
+        }
+        return -1;
+    }
+
+    static int hashCode(int[] a, int from, int to) {
+        int h = 1, i = from;
+        for(int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            h = h * INT_STEP + IntVector.fromArray(INTS, a, i).mul(INT_COEFF_VECTOR).reduceLanes(VectorOperators.ADD);
+        }
+        for(; i < to; i++) h = 31 * h + a[i];
+        return h;
+    }
+
+    static int min(int[] a, int from, int to) {
+        int m = Integer.MAX_VALUE, i = from;
+        for(int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            m = Math.min(m, IntVector.fromArray(INTS, a, i).reduceLanes(VectorOperators.MIN));
+        }
+        for(; i < to; i++) m = Math.min(m, a[i]);
+        return m;
+    }
+
+    static int max(int[] a, int from, int to) {
+        int m = Integer.MIN_VALUE, i = from;
+        for(int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            m = Math.max(m, IntVector.fromArray(INTS, a, i).reduceLanes(VectorOperators.MAX));
+        }
+        for(; i < to; i++) m = Math.max(m, a[i]);
+        return m;
+    }
+
+    // long
+
+    static int indexOf(long[] a, int from, int to, long value) {
+        int i = from;
+        for(int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            VectorMask<Long> m = LongVector.fromArray(LONGS, a, i).eq(value);
+            if(m.anyTrue()) return i + m.firstTrue();
+        }
+        for(; i < to; i++) {
+            if(a[i] == value) return i;
+        }
+        return -1;
+    }
+
+    static int lastIndexOf(long[] a, int from, int to, long value) {
+        int i = to;
+        for(int bound = to - LONGS.loopBound(to - from); i > bound; ) {
+            i -= LONGS.length();
+            VectorMask<Long> m = LongVector.fromArray(LONGS, a, i).eq(value);
+            if(m.anyTrue()) return i + m.lastTrue();
+        }
+        for(i--; i >= from; i--) {
+            if(a[i] == value) return i;
+        }
+        return -1;
+    }
+
+    static int hashCode(long[] a, int from, int to) { // Long.hashCode(v) = (int) (v ^ (v >>> 32)), calculat pe lane-uri long
+        int h = 1, i = from;
+        for(int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            LongVector v = LongVector.fromArray(LONGS, a, i);
+            LongVector folded = v.lanewise(VectorOperators.XOR, v.lanewise(VectorOperators.LSHR, 32));
+            h = h * LONG_STEP + (int) folded.mul(LONG_COEFF_VECTOR).reduceLanes(VectorOperators.ADD);
+        }
+        for(; i < to; i++) h = 31 * h + Long.hashCode(a[i]);
+        return h;
+    }
+
+    static long min(long[] a, int from, int to) {
+        long m = Long.MAX_VALUE;
+        int i = from;
+        for(int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            m = Math.min(m, LongVector.fromArray(LONGS, a, i).reduceLanes(VectorOperators.MIN));
+        }
+        for(; i < to; i++) m = Math.min(m, a[i]);
+        return m;
+    }
+
+    static long max(long[] a, int from, int to) {
+        long m = Long.MIN_VALUE;
+        int i = from;
+        for(int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            m = Math.max(m, LongVector.fromArray(LONGS, a, i).reduceLanes(VectorOperators.MAX));
+        }
+        for(; i < to; i++) m = Math.max(m, a[i]);
+        return m;
+    }
+
+    static long sum(long[] a, int from, int to) {
+        LongVector acc = LongVector.zero(LONGS);
+        int i = from;
+        for(int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            acc = acc.add(LongVector.fromArray(LONGS, a, i));
+        }
+        long s = acc.reduceLanes(VectorOperators.ADD);
+        for(; i < to; i++) s += a[i];
+        return s;
+    }
+
+    // double: egalitatea e ca la Double.equals (pe biti, NaN egal cu NaN, 0.0 diferit de -0.0)
+
+    private static VectorMask<Double> matches(DoubleVector v, double value, long bits) {
+        if(value != value) return v.test(VectorOperators.IS_NAN);
+        return v.reinterpretAsLongs().eq(bits).cast(DOUBLES);
+    }
+
+    static int indexOf(double[] a, int from, int to, double value) {
+        final long bits = Double.doubleToLongBits(value);
+        int i = from;
+        for(int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            VectorMask<Double> m = matches(DoubleVector.fromArray(DOUBLES, a, i), value, bits);
+            if(m.anyTrue()) return i + m.firstTrue();
+        }
+        for(; i < to; i++) {
+            if(Double.doubleToLongBits(a[i]) == bits) return i;
+        }
+        return -1;
+    }
+
+    static int lastIndexOf(double[] a, int from, int to, double value) {
+        final long bits = Double.doubleToLongBits(value);
+        int i = to;
+        for(int bound = to - DOUBLES.loopBound(to - from); i > bound; ) {
+            i -= DOUBLES.length();
+            VectorMask<Double> m = matches(DoubleVector.fromArray(DOUBLES, a, i), value, bits);
+            if(m.anyTrue()) return i + m.lastTrue();
+        }
+        for(i--; i >= from; i--) {
+            if(Double.doubleToLongBits(a[i]) == bits) return i;
+        }
+        return -1;
+    }
+
+    static int hashCode(double[] a, int from, int to) { // Double.hashCode foloseste doubleToLongBits -> NaN-urile devin NaN canonic
+        int h = 1, i = from;
+        for(int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLES, a, i);
+            LongVector bits = v.reinterpretAsLongs();
+            VectorMask<Double> nan = v.test(VectorOperators.IS_NAN);
+            if(nan.anyTrue()) bits = bits.blend(CANONICAL_NAN, nan.cast(bits.species()));
+            LongVector folded = bits.lanewise(VectorOperators.XOR, bits.lanewise(VectorOperators.LSHR, 32));
+            h = h * DOUBLE_STEP + (int) folded.mul(DOUBLE_COEFF_VECTOR).reduceLanes(VectorOperators.ADD);
+        }
+        for(; i < to; i++) h = 31 * h + Double.hashCode(a[i]);
+        return h;
+    }
+
+    static double min(double[] a, int from, int to) { // MIN pe lane-uri are semantica Math.min (NaN castiga, -0.0 < 0.0)
+        double m = Double.POSITIVE_INFINITY;
+        int i = from;
+        for(int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            m = Math.min(m, DoubleVector.fromArray(DOUBLES, a, i).reduceLanes(VectorOperators.MIN));
+        }
+        for(; i < to; i++) m = Math.min(m, a[i]);
+        return m;
+    }
+
+    static double max(double[] a, int from, int to) {
+        double m = Double.NEGATIVE_INFINITY;
+        int i = from;
+        for(int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            m = Math.max(m, DoubleVector.fromArray(DOUBLES, a, i).reduceLanes(VectorOperators.MAX));
+        }
+        for(; i < to; i++) m = Math.max(m, a[i]);
+        return m;
+    }
+
+    static double sum(double[] a, int from, int to) { // ordinea adunarii difera de bucla scalara -> rotunjirile pot diferi putin
+        DoubleVector acc = DoubleVector.zero(DOUBLES);
+        int i = from;
+        for(int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            acc = acc.add(DoubleVector.fromArray(DOUBLES, a, i));
+        }
+        double s = acc.reduceLanes(VectorOperators.ADD);
+        for(; i < to; i++) s += a[i];
+        return s;
+    }
+}
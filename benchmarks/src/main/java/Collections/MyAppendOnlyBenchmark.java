@@ -0,0 +1,60 @@
+package Collections;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Mai multi producatori adauga, un consumator scoate periodic tot ce s-a adunat.
+// MyAppendOnlyArrayList (getAndAdd + chunk-uri) fata de Collections.synchronizedList(new MyArrayList<>()) golita sub monitor.
+// Numarul de producatori se poate schimba cu -tg (de ex. -tg 31,1).
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class MyAppendOnlyBenchmark {
+
+    @Param({"MyAppendOnlyArrayList", "synchronizedList"})
+    public String impl;
+
+    List<Integer> list;
+    MyAppendOnlyArrayList<Integer> appendOnly;
+    static final Integer EVENT = 42;
+
+    @Setup(Level.Iteration)
+    public void setUp() { // lista noua la fiecare iteratie, ca sa nu se adune prea multe elemente daca consumatorul ramane in urma
+        if (impl.equals("MyAppendOnlyArrayList")) {
+            list = appendOnly = new MyAppendOnlyArrayList<>();
+        } else {
+            list = Collections.synchronizedList(new MyArrayList<>());
+            appendOnly = null;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Sink {
+        final List<Integer> drained = new ArrayList<>();
+    }
+
+    @Benchmark
+    @Group("collect")
+    @GroupThreads(3)
+    public boolean produce() {
+        return list.add(EVENT);
+    }
+
+    @Benchmark
+    @Group("collect")
+    @GroupThreads(1)
+    public int drain(Sink sink) {
+        sink.drained.clear();
+        if (appendOnly != null) return appendOnly.drainTo(sink.drained);
+        synchronized (list) { // monitorul lui synchronizedList
+            sink.drained.addAll(list);
+            list.clear();
+        }
+        return sink.drained.size();
+    }
+}
@@ -0,0 +1,161 @@
+package Collections;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// MyArrayList comparat cu java.util.ArrayList pe aceleasi operatii, marimi si tipuri de elemente
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyArrayListBenchmark {
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static final Comparator<Object> ORDER = (a, b) -> ((Comparable) a).compareTo(b);
+
+    @State(Scope.Benchmark)
+    public static class Data { // lista plina, doar citita de benchmark-uri
+        @Param({"MyArrayList", "ArrayList"})
+        public String impl;
+
+        @Param({"100", "10000", "1000000"})
+        public int size;
+
+        @Param({"Integer", "String"})
+        public String type;
+
+        Object[] values; // elemente unice, amestecate
+        List<Object> list;
+        Set<Object> half; // jumatate din elemente, pentru removeAll / retainAll
+        List<Object> someList; // cel mult 1000 de elemente intr-o lista (contains liniar), pentru removeAll cu List
+        Object probe; // elementul cautat de indexOf si remove(Object), in ultimul sfert al listei
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            values = new Object[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = type.equals("Integer") ? (Object) Integer.valueOf(i) : "element-" + i;
+            }
+            Random rnd = new Random(42);
+            for (int i = size - 1; i > 0; i--) {
+                int j = rnd.nextInt(i + 1);
+                Object t = values[i];
+                values[i] = values[j];
+                values[j] = t;
+            }
+            list = newList(impl);
+            half = new HashSet<>();
+            for (int i = 0; i < size; i++) {
+                list.add(values[i]);
+                if ((i & 1) == 0) half.add(values[i]);
+            }
+            probe = values[size - 1 - size / 4];
+            someList = new ArrayList<>();
+            for (int i = 0; i < size && someList.size() < 1000; i += 2) someList.add(values[i]);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Fresh { // copie noua inaintea fiecarei invocari, pentru operatii ce strica lista
+        List<Object> list;
+
+        @Setup(Level.Invocation)
+        public void setUp(Data data) {
+            list = newList(data.impl);
+            list.addAll(data.list);
+        }
+    }
+
+    static List<Object> newList(String impl) {
+        return impl.equals("MyArrayList") ? new MyArrayList<>() : new ArrayList<>();
+    }
+
+    @Benchmark
+    public List<Object> add(Data data) {
+        List<Object> list = newList(data.impl);
+        for (Object v : data.values) list.add(v);
+        return list;
+    }
+
+    @Benchmark
+    public List<Object> addAtIndex(Data data, Fresh fresh) {
+        fresh.list.add(data.size / 2, data.probe);
+        return fresh.list;
+    }
+
+    @Benchmark
+    public void get(Data data, Blackhole bh) {
+        List<Object> list = data.list;
+        for (int i = 0, s = list.size(); i < s; i++) bh.consume(list.get(i));
+    }
+
+    @Benchmark
+    public Object removeIndex(Data data, Fresh fresh) {
+        return fresh.list.remove(data.size / 2);
+    }
+
+    @Benchmark
+    public boolean removeObject(Data data, Fresh fresh) {
+        return fresh.list.remove(data.probe);
+    }
+
+    @Benchmark
+    public int indexOf(Data data) {
+        return data.list.indexOf(data.probe);
+    }
+
+    @Benchmark
+    public List<Object> addAll(Data data) {
+        List<Object> list = newList(data.impl);
+        list.addAll(data.list);
+        return list;
+    }
+
+    @Benchmark
+    public boolean removeIf(Fresh fresh) {
+        return fresh.list.removeIf(e -> (e.hashCode() & 1) == 0);
+    }
+
+    @Benchmark
+    public boolean removeAll(Data data, Fresh fresh) {
+        return fresh.list.removeAll(data.half);
+    }
+
+    @Benchmark
+    public boolean removeAllList(Data data, Fresh fresh) {
+        return fresh.list.removeAll(data.someList);
+    }
+
+    @Benchmark
+    public boolean retainAll(Data data, Fresh fresh) {
+        return fresh.list.retainAll(data.half);
+    }
+
+    @Benchmark
+    public List<Object> sort(Fresh fresh) {
+        fresh.list.sort(ORDER);
+        return fresh.list;
+    }
+
+    @Benchmark
+    public void forEach(Data data, Blackhole bh) {
+        data.list.forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void iterator(Data data, Blackhole bh) {
+        for (Object e : data.list) bh.consume(e);
+    }
+
+    @Benchmark
+    public long parallelStream(Data data) {
+        return data.list.parallelStream().mapToLong(Object::hashCode).sum();
+    }
+}
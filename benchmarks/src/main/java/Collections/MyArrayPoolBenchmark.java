@@ -0,0 +1,48 @@
+package Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Liste care traiesc putin (creata, umpluta cu cateva sute de elemente, aruncata): alocare prin grow() fata de array-uri din MyArrayPool
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MyArrayPoolBenchmark {
+
+    @Param({"20", "300"})
+    public int elements;
+
+    static final Integer ITEM = 7;
+
+    @Benchmark
+    @Threads(1)
+    public int plain() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < elements; i++) list.add(ITEM);
+        return list.size();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int pooled() {
+        MyArrayList<Integer> list = new MyArrayList<>(MyArrayPool.common());
+        for (int i = 0; i < elements; i++) list.add(ITEM);
+        int n = list.size();
+        list.release();
+        return n;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int plainThreads() {
+        return plain();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int pooledThreads() {
+        return pooled();
+    }
+}
@@ -0,0 +1,83 @@
+package Collections;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Editari in multe puncte deodata (aplicarea unui diff): cate un apel pe pozitie fata de un singur apel pentru tot lotul
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MyBatchEditBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"10", "1000"})
+    public int points;
+
+    Integer[] base;
+    int[] indices; // crescatoare, relative la lista initiala
+    Integer[] values;
+    int[] removeIndices; // distincte, crescatoare, < size
+    BitSet removeBits;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        base = new Integer[size];
+        for (int i = 0; i < size; i++) base[i] = i;
+        Random rnd = new Random(42);
+        indices = new int[points];
+        for (int j = 0; j < points; j++) indices[j] = rnd.nextInt(size + 1);
+        Arrays.sort(indices);
+        values = new Integer[points];
+        for (int j = 0; j < points; j++) values[j] = -j;
+        removeBits = new BitSet(size);
+        while (removeBits.cardinality() < points) removeBits.set(rnd.nextInt(size));
+        removeIndices = removeBits.stream().toArray();
+    }
+
+    @State(Scope.Thread)
+    public static class Fresh {
+        MyArrayList<Integer> list;
+
+        @Setup(Level.Invocation)
+        public void setUp(MyBatchEditBenchmark b) {
+            list = new MyArrayList<>(Arrays.asList(b.base));
+        }
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> insertOneByOne(Fresh f) { // de la coada, ca indexurile ramase sa fie inca valabile
+        for (int j = points - 1; j >= 0; j--) f.list.add(indices[j], values[j]);
+        return f.list;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> insertAll(Fresh f) {
+        f.list.insertAll(indices, values);
+        return f.list;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> removeOneByOne(Fresh f) { // de la coada, ca indexurile ramase sa fie inca valabile
+        for (int j = points - 1; j >= 0; j--) f.list.remove(removeIndices[j]);
+        return f.list;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> removeAtIndices(Fresh f) {
+        f.list.removeAt(removeIndices);
+        return f.list;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> removeAtBitSet(Fresh f) {
+        f.list.removeAt(removeBits);
+        return f.list;
+    }
+}
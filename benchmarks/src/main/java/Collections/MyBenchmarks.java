@@ -0,0 +1,22 @@
+package Collections;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Punct de intrare pentru benchmarks.jar:
+//   mvn -f benchmarks/pom.xml package
+//   java --enable-preview --add-modules jdk.incubator.vector -jar benchmarks/target/benchmarks.jar [regex] [optiuni JMH]
+// Profilerul "gc" e mereu pornit, ca sa avem alocari (gc.alloc.rate.norm) la fiecare rulare si sa comparam intre versiuni.
+public class MyBenchmarks {
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(cmd)
+                .addProfiler(GCProfiler.class)
+                .jvmArgsPrepend("--enable-preview", "--add-modules", "jdk.incubator.vector") // java.lang.foreign pe JDK 21 si Vector API; "prepend" ca sa nu inlocuim jvmArgsAppend din @Fork
+                .build()).run();
+    }
+}
@@ -0,0 +1,60 @@
+package Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.*;
+
+// Actiune care asteapta (simulam I/O cu parkNanos) pe fiecare element: forEach / replaceAll secvential,
+// parallel* pe ForkJoinPool si *Concurrent pe virtual threads
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MyBlockingActionBenchmark {
+
+    @Param({"200"})
+    public int size;
+
+    @Param({"100"})
+    public int latencyMicros; // cat "dureaza" un apel
+
+    @Param({"64"})
+    public int maxConcurrency;
+
+    MyArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = new MyArrayList<>();
+        for (int i = 0; i < size; i++) list.add(i);
+    }
+
+    Integer call(Integer x) {
+        LockSupport.parkNanos(latencyMicros * 1000L);
+        return x + 1;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> replaceAll() {
+        list.replaceAll(this::call);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> parallelReplaceAll() {
+        list.parallelReplaceAll(this::call);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> replaceAllConcurrent() {
+        list.replaceAllConcurrent(this::call, maxConcurrency);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> mapConcurrent() {
+        return list.mapConcurrent(this::call, maxConcurrency);
+    }
+}
@@ -0,0 +1,76 @@
+package Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Sincronizarea unei replici dupa cateva schimbari in sursa: deltaSince + applyDelta fata de o copie completa (clone),
+// plus cat costa jurnalul pe add cand e pornit / oprit
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MyChangeLogBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"10", "1000"})
+    public int changes; // schimbari in sursa intre doua sincronizari
+
+    MyArrayList<Integer> source;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = new MyArrayList<>();
+        for (int i = 0; i < size; i++) source.add(i);
+        source.enableChangeLog();
+    }
+
+    @State(Scope.Thread)
+    public static class Replica {
+        MyArrayList<Integer> list;
+        long version;
+
+        @Setup(Level.Invocation)
+        @SuppressWarnings("unchecked")
+        public void setUp(MyChangeLogBenchmark b) {
+            list = (MyArrayList<Integer>) b.source.clone();
+            for (int i = 0; i < b.changes; i++) { // set-uri imprastiate, un remove si un add, ca sa nu se lipeasca toate
+                b.source.set((i * 7919) % b.size, -i);
+                if ((i & 63) == 0) {
+                    b.source.remove(i);
+                    b.source.add(i);
+                }
+            }
+            version = list.version();
+        }
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> syncByDelta(Replica r) {
+        r.list.applyDelta(source.deltaSince(r.version));
+        return r.list;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public MyArrayList<Integer> syncByCopy(Replica r) {
+        return (MyArrayList<Integer>) source.clone();
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> addLogged() {
+        MyArrayList<Integer> l = new MyArrayList<>();
+        l.enableChangeLog();
+        for (int i = 0; i < 10000; i++) l.add(i);
+        return l;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> addUnlogged() {
+        MyArrayList<Integer> l = new MyArrayList<>();
+        for (int i = 0; i < 10000; i++) l.add(i);
+        return l;
+    }
+}
@@ -0,0 +1,83 @@
+package Collections;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// MyConcurrentArrayList (StampedLock, citiri optimiste) fata de Collections.synchronizedList(new MyArrayList<>()) sub contentie.
+// Fiecare grup ruleaza mai multe thread-uri pe aceeasi lista: doar cititori, sau cititori + un scriitor.
+// Numarul de thread-uri se poate schimba din linia de comanda cu -tg (de ex. -tg 31,1 pentru 32 de core-uri).
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class MyConcurrentListBenchmark {
+
+    @Param({"MyConcurrentArrayList", "synchronizedList"})
+    public String impl;
+
+    @Param({"10000"})
+    public int size;
+
+    List<Integer> list;
+
+    @Setup
+    public void setUp() {
+        list = impl.equals("MyConcurrentArrayList") ? new MyConcurrentArrayList<>() : Collections.synchronizedList(new MyArrayList<>());
+        for (int i = 0; i < size; i++) list.add(i);
+    }
+
+    @Benchmark
+    @Group("readOnly")
+    @GroupThreads(8)
+    public Integer readOnlyGet() {
+        return list.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(7)
+    public Integer readMostlyGet() {
+        return list.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public Integer readMostlySet() { // scriere ce nu schimba marimea, ca lista sa ramana la fel pe toata masurarea
+        int i = ThreadLocalRandom.current().nextInt(size);
+        return list.set(i, i);
+    }
+
+    @Benchmark
+    @Group("scan")
+    @GroupThreads(7)
+    public int scanIndexOf() { // citire lunga: parcurge lista pana aproape de sfarsit
+        return list.indexOf(size - 10);
+    }
+
+    @Benchmark
+    @Group("scan")
+    @GroupThreads(1)
+    public Integer scanSet() {
+        int i = ThreadLocalRandom.current().nextInt(size - 100); // nu atinge elementul cautat
+        return list.set(i, i);
+    }
+
+    @Benchmark
+    @Group("bulk")
+    @GroupThreads(7)
+    public Integer bulkGet() {
+        return list.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    @Group("bulk")
+    @GroupThreads(1)
+    public boolean bulkRemoveIf() { // removeIf ce nu sterge nimic: tine lock-ul o data pe toata lista
+        return list.removeIf(e -> e < 0);
+    }
+}
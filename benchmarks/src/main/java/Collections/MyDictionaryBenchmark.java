@@ -0,0 +1,82 @@
+package Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.*;
+
+// Lista cu multe elemente si putine valori distincte: MyArrayList (o referinta pe loc) fata de MyDictionaryArrayList (coduri byte / short)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MyDictionaryBenchmark {
+
+    @Param({"MyArrayList", "MyDictionaryArrayList"})
+    public String impl;
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"200", "1000"})
+    public int distinct;
+
+    String[] pool; // valorile distincte (obiecte String diferite, ca equals sa nu se opreasca la ==)
+    List<String> list;
+    String probe; // apare o singura data, aproape de sfarsit
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new String[distinct];
+        for (int i = 0; i < distinct; i++) pool[i] = "status-" + i;
+        list = build();
+        probe = new String("rar");
+        list.set(size - size / 8, "rar");
+    }
+
+    List<String> build() {
+        Supplier<List<String>> f = impl.equals("MyArrayList") ? MyArrayList::new : MyDictionaryArrayList::new;
+        List<String> l = f.get();
+        for (int i = 0; i < size; i++) l.add(pool[(i * 31) % distinct]);
+        return l;
+    }
+
+    @State(Scope.Thread)
+    public static class Fresh {
+        List<String> list;
+
+        @Setup(Level.Invocation)
+        public void setUp(MyDictionaryBenchmark b) {
+            list = b.build();
+        }
+    }
+
+    @Benchmark
+    public List<String> buildList() { // gc.alloc.rate.norm ~ memoria listei
+        return build();
+    }
+
+    @Benchmark
+    public int indexOfRare() {
+        return list.indexOf(probe);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return list.contains("lipseste");
+    }
+
+    @Benchmark
+    public List<String> removeIf(Fresh f) {
+        f.list.removeIf(s -> s.endsWith("7"));
+        return f.list;
+    }
+
+    @Benchmark
+    public int scanLengths() {
+        int n = 0;
+        for (int i = 0; i < size; i++) n += list.get(i).length();
+        return n;
+    }
+}
@@ -0,0 +1,38 @@
+package Collections;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+// Cati octeti ocupa o lista cu 0 - 5 elemente (fara elementele insesi), masurat cu JOL.
+// La listele goale MyArrayList / ArrayList se numara si array-ul gol static (16 octeti), impartit de toate listele.
+//   java -cp benchmarks/target/benchmarks.jar Collections.MyFootprint
+public class MyFootprint {
+
+    public static void main(String[] args) {
+        System.out.println(VM.current().details());
+        System.out.println(ClassLayout.parseClass(MySmallList.class).toPrintable());
+        System.out.println(ClassLayout.parseClass(MyArrayList.class).toPrintable());
+
+        System.out.printf("%-12s", "elemente");
+        for (int n = 0; n <= 5; n++) System.out.printf("%8d", n);
+        System.out.println();
+        row("MySmallList", MySmallList::new);
+        row("MyArrayList", MyArrayList::new);
+        row("ArrayList", ArrayList::new);
+    }
+
+    static void row(String name, Supplier<List<Object>> factory) {
+        System.out.printf("%-12s", name);
+        for (int n = 0; n <= 5; n++) {
+            List<Object> list = factory.get();
+            Object[] elements = new Object[n];
+            for (int i = 0; i < n; i++) list.add(elements[i] = new Object());
+            long bytes = GraphLayout.parseInstance(list).totalSize() - (n == 0 ? 0 : GraphLayout.parseInstance(elements).totalSize()); // elements e varargs: radacinile sunt elementele, nu array-ul
+            System.out.printf("%8d", bytes);
+        }
+        System.out.println();
+    }
+}
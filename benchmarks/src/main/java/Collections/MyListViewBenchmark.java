@@ -0,0 +1,56 @@
+package Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.*;
+
+// stream().filter().map().collect() fata de vederile lenese din MyListView, pe acelasi lant de pasi
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MyListViewBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    MyArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = new MyArrayList<>();
+        for (int i = 0; i < size; i++) list.add(i);
+    }
+
+    @Benchmark
+    public List<Long> streamMapToList() {
+        return list.stream().map(x -> (long) x * 3).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Long> viewMapToList() {
+        return list.mappedView(x -> (long) x * 3).toList();
+    }
+
+    @Benchmark
+    public List<Long> streamFilterMapToList() {
+        return list.stream().filter(x -> (x & 3) != 0).map(x -> (long) x * 3).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Long> viewFilterMapToList() {
+        return list.filteredView(x -> (x & 3) != 0).mappedView(x -> (long) x * 3).toList();
+    }
+
+    @Benchmark
+    public List<Long> streamStrideToList() { // fiecare al 16-lea element
+        return java.util.stream.IntStream.range(0, (size + 15) / 16).mapToObj(i -> (long) list.get(i * 16) * 3).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Long> viewSliceMapToList() {
+        return list.slice(0, size, 16).mappedView(x -> (long) x * 3).toList();
+    }
+}
@@ -0,0 +1,68 @@
+package Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Cat costa o versiune noua pentru cititori: MyArrayList.clone() (copie O(n)) fata de MyPersistentVector (O(log32 n)).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MyPersistentVectorBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    MyArrayList<Integer> list;
+    MyPersistentVector<Integer> vector;
+    int next;
+
+    @Setup
+    public void setUp() {
+        list = new MyArrayList<>();
+        MyPersistentVector.Builder<Integer> b = MyPersistentVector.builder();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+            b.add(i);
+        }
+        vector = b.persistent();
+    }
+
+    private int nextIndex() {
+        next = (next + 7919) % size;
+        return next;
+    }
+
+    @Benchmark
+    public Object listSetThenClone() { // modul de acum: schimbare + copie pentru cititori
+        list.set(nextIndex(), next);
+        return list.clone();
+    }
+
+    @Benchmark
+    public MyPersistentVector<Integer> vectorWith() { // versiune noua, cea veche ramane valabila
+        return vector = vector.with(nextIndex(), next);
+    }
+
+    @Benchmark
+    public MyPersistentVector<Integer> vectorAppendPop() {
+        return vector.append(next).pop();
+    }
+
+    @Benchmark
+    public MyPersistentVector<Integer> toPersistent() { // snapshot O(1) dintr-o lista ce nu se mai schimba
+        return list.toPersistent();
+    }
+
+    @Benchmark
+    public void listGet(Blackhole bh) {
+        for (int i = 0; i < size; i += 97) bh.consume(list.get(i));
+    }
+
+    @Benchmark
+    public void vectorGet(Blackhole bh) {
+        for (int i = 0; i < size; i += 97) bh.consume(vector.get(i));
+    }
+}
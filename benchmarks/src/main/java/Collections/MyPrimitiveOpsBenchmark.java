@@ -0,0 +1,109 @@
+package Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Operatiile din MyPrimitiveOps cu Vector API fata de buclele scalare.
+// Metodele *Scalar ruleaza intr-un fork cu -Dcollections.noVector=true, deci masoara exact aceeasi metoda din lista.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MyPrimitiveOpsBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    MyIntArrayList ints;
+    MyDoubleArrayList doubles;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(42);
+        ints = new MyIntArrayList(size);
+        doubles = new MyDoubleArrayList(size);
+        for (int i = 0; i < size; i++) {
+            ints.add(rnd.nextInt(1_000_000));
+            doubles.add(rnd.nextDouble());
+        }
+    }
+
+    @Benchmark
+    public int intIndexOf() {
+        return ints.indexOf(-1); // nu exista -> parcurge toata lista
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dcollections.noVector=true")
+    public int intIndexOfScalar() {
+        return ints.indexOf(-1);
+    }
+
+    @Benchmark
+    public int intHashCode() {
+        return ints.hashCode();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dcollections.noVector=true")
+    public int intHashCodeScalar() {
+        return ints.hashCode();
+    }
+
+    @Benchmark
+    public long intSum() {
+        return ints.sum();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dcollections.noVector=true")
+    public long intSumScalar() {
+        return ints.sum();
+    }
+
+    @Benchmark
+    public int intMax() {
+        return ints.max();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dcollections.noVector=true")
+    public int intMaxScalar() {
+        return ints.max();
+    }
+
+    @Benchmark
+    public int doubleIndexOf() {
+        return doubles.indexOf(-1.0);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dcollections.noVector=true")
+    public int doubleIndexOfScalar() {
+        return doubles.indexOf(-1.0);
+    }
+
+    @Benchmark
+    public int doubleHashCode() {
+        return doubles.hashCode();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dcollections.noVector=true")
+    public int doubleHashCodeScalar() {
+        return doubles.hashCode();
+    }
+
+    @Benchmark
+    public double doubleSum() {
+        return doubles.sum();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dcollections.noVector=true")
+    public double doubleSumScalar() {
+        return doubles.sum();
+    }
+}
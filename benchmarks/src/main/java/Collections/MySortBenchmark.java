@@ -0,0 +1,52 @@
+package Collections;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// sort (Arrays.sort) fata de parallelSort (fork/join) pe MyArrayList. Castigul depinde de numarul de core-uri.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MySortBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    Integer[] values; // aceleasi valori amestecate pentru fiecare invocare
+    MyArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUpValues() {
+        Random rnd = new Random(42);
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) values[i] = rnd.nextInt();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpList() {
+        list = new MyArrayList<>(size);
+        for (Integer v : values) list.add(v);
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> sort() {
+        list.sort(Comparator.naturalOrder());
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> parallelSort() {
+        list.parallelSort(Comparator.naturalOrder());
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> parallelSortSubList() { // jumatatea din mijloc, ca sa acoperim si range-urile
+        list.subList(size / 4, size - size / 4).parallelSort(Comparator.naturalOrder());
+        return list;
+    }
+}
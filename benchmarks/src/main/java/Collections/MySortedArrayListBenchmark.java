@@ -0,0 +1,82 @@
+package Collections;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Lista tinuta sortata de mana (MyArrayList: addAll + sort, indexOf liniar) fata de MySortedArrayList (interclasare, cautare binara).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MySortedArrayListBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"1000"})
+    public int batch;
+
+    List<Integer> base; // sortata
+    List<Integer> incoming; // nesortata
+    MySortedArrayList<Integer> sorted;
+    MyArrayList<Integer> plain;
+    Integer probe;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rnd = new Random(42);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < size; i++) values.add(rnd.nextInt());
+        sorted = new MySortedArrayList<>(values);
+        base = new ArrayList<>(sorted);
+        plain = new MyArrayList<>(base);
+        incoming = new ArrayList<>();
+        for (int i = 0; i < batch; i++) incoming.add(rnd.nextInt());
+        probe = base.get(size - 1 - size / 4);
+    }
+
+    @State(Scope.Thread)
+    public static class Fresh {
+        MySortedArrayList<Integer> sorted;
+        MyArrayList<Integer> plain;
+
+        @Setup(Level.Invocation)
+        public void setUp(MySortedArrayListBenchmark b) {
+            sorted = b.sorted.clone();
+            plain = new MyArrayList<>(b.base);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> plainAddAllThenSort(Fresh f) {
+        f.plain.addAll(incoming);
+        f.plain.sort(null);
+        return f.plain;
+    }
+
+    @Benchmark
+    public List<Integer> sortedAddAllMerge(Fresh f) {
+        f.sorted.addAll(incoming);
+        return f.sorted;
+    }
+
+    @Benchmark
+    public List<Integer> sortedAddOneByOne(Fresh f) {
+        for (Integer e : incoming) f.sorted.add(e);
+        return f.sorted;
+    }
+
+    @Benchmark
+    public int plainIndexOf() {
+        return plain.indexOf(probe);
+    }
+
+    @Benchmark
+    public int sortedIndexOf() {
+        return sorted.indexOf(probe);
+    }
+}
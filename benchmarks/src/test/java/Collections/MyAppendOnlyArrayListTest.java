@@ -0,0 +1,42 @@
+package Collections;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyAppendOnlyArrayListTest {
+
+    static MyAppendOnlyArrayList<Integer> listOf(int n) {
+        MyAppendOnlyArrayList<Integer> l = new MyAppendOnlyArrayList<>();
+        for (int i = 0; i < n; i++) l.add(i);
+        return l;
+    }
+
+    @Test
+    void drainToKeepsElementsWhenAddThrows() { // coada plina dupa 20 de elemente, peste granita primului chunk (16)
+        MyAppendOnlyArrayList<Integer> l = listOf(100);
+        ArrayBlockingQueue<Integer> bounded = new ArrayBlockingQueue<>(20);
+        assertThrows(IllegalStateException.class, () -> l.drainTo(bounded));
+        assertEquals(20, bounded.size());
+        assertEquals(80, l.size());
+        assertEquals(20, l.get(0));
+        List<Integer> rest = new ArrayList<>();
+        assertEquals(80, l.drainTo(rest));
+        assertFalse(rest.contains(null));
+        List<Integer> all = new ArrayList<>(bounded);
+        all.addAll(rest);
+        assertEquals(listOf(100).stream().toList(), all);
+        assertTrue(l.isEmpty());
+    }
+
+    @Test
+    void drainToWithLimitThenRest() {
+        MyAppendOnlyArrayList<Integer> l = listOf(50);
+        List<Integer> out = new ArrayList<>();
+        assertEquals(17, l.drainTo(out, 17));
+        l.add(50);
+        assertEquals(34, l.drainTo(out));
+        for (int i = 0; i <= 50; i++) assertEquals(i, out.get(i));
+        assertEquals(0, l.drainTo(out));
+    }
+}
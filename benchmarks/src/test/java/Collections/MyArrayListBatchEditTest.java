@@ -0,0 +1,88 @@
+package Collections;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyArrayListBatchEditTest {
+
+    static List<Integer> listOf(int n) {
+        List<Integer> l = new ArrayList<>();
+        for (int i = 0; i < n; i++) l.add(i);
+        return l;
+    }
+
+    static void insertOneByOne(List<Integer> ref, int[] indices, Integer[] values) { // de la coada: indexurile de dinainte nu se muta
+        for (int j = indices.length - 1; j >= 0; j--) ref.add(indices[j], values[j]);
+    }
+
+    @Test
+    void insertAllMatchesRepeatedAdd() {
+        Random r = new Random(9);
+        for (int round = 0; round < 200; round++) {
+            int n = r.nextInt(50);
+            List<Integer> ref = listOf(n);
+            MyArrayList<Integer> l = new MyArrayList<>(ref);
+            int k = r.nextInt(20);
+            int[] indices = new int[k];
+            Integer[] values = new Integer[k];
+            for (int j = 0; j < k; j++) {
+                indices[j] = r.nextInt(n + 1);
+                values[j] = -1 - j;
+            }
+            Arrays.sort(indices); // cu repetari
+            insertOneByOne(ref, indices, values);
+            assertEquals(k > 0, l.insertAll(indices, values));
+            assertEquals(ref, l);
+            assertEquals(ref.indexOf(-1), l.indexOf(-1));
+        }
+    }
+
+    @Test
+    void insertAllOnSubListAndBadArguments() {
+        List<Integer> ref = listOf(30);
+        MyArrayList<Integer> l = new MyArrayList<>(ref);
+        l.subList(10, 20).insertAll(new int[] {0, 5, 10}, new Integer[] {-1, -2, -3});
+        insertOneByOne(ref.subList(10, 20), new int[] {0, 5, 10}, new Integer[] {-1, -2, -3});
+        assertEquals(ref, l);
+        assertThrows(IllegalArgumentException.class, () -> l.insertAll(new int[] {3, 1}, new Integer[] {0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> l.insertAll(new int[] {1}, new Integer[] {0, 0}));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.insertAll(new int[] {0, l.size() + 1}, new Integer[] {0, 0}));
+        assertEquals(ref, l); // argumentele gresite nu schimba nimic
+    }
+
+    @Test
+    void removeAtMatchesRemovingEachPosition() {
+        Random r = new Random(10);
+        for (int round = 0; round < 200; round++) {
+            int n = 1 + r.nextInt(200);
+            List<Integer> ref = listOf(n);
+            MyArrayList<Integer> l = new MyArrayList<>(ref);
+            MyArrayList<Integer> viaBits = new MyArrayList<>(ref);
+            int[] indices = new int[r.nextInt(30)];
+            BitSet bits = new BitSet();
+            for (int j = 0; j < indices.length; j++) { // nesortate, cu repetari
+                indices[j] = r.nextInt(n);
+                bits.set(indices[j]);
+            }
+            for (int i = bits.length() - 1; i >= 0; i = bits.previousSetBit(i - 1)) ref.remove(i);
+            assertEquals(bits.cardinality(), l.removeAt(indices));
+            assertEquals(bits.cardinality(), viaBits.removeAt(bits));
+            assertEquals(ref, l);
+            assertEquals(ref, viaBits);
+        }
+    }
+
+    @Test
+    void removeAtOnSubListAndBadIndex() {
+        List<Integer> ref = listOf(30);
+        MyArrayList<Integer> l = new MyArrayList<>(ref);
+        assertEquals(2, l.subList(10, 20).removeAt(9, 0, 9));
+        ref.remove(19);
+        ref.remove(10);
+        assertEquals(ref, l);
+        assertThrows(IndexOutOfBoundsException.class, () -> l.removeAt(0, l.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.removeAt(-1));
+        assertEquals(ref, l); // indexurile se verifica inainte sa stergem ceva
+        assertEquals(0, l.removeAt());
+    }
+}
@@ -0,0 +1,118 @@
+package Collections;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyArrayListConcurrentTest {
+
+    static MyArrayList<Integer> listOf(int n) {
+        MyArrayList<Integer> l = new MyArrayList<>();
+        for (int i = 0; i < n; i++) l.add(i);
+        return l;
+    }
+
+    static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    @Test
+    void forEachConcurrentRespectsBound() {
+        MyArrayList<Integer> l = listOf(200);
+        AtomicInteger active = new AtomicInteger(), max = new AtomicInteger(), sum = new AtomicInteger();
+        l.forEachConcurrent(x -> {
+            max.accumulateAndGet(active.incrementAndGet(), Math::max);
+            sleep(5);
+            sum.addAndGet(x);
+            active.decrementAndGet();
+        }, 16);
+        assertEquals(199 * 200 / 2, sum.get());
+        assertTrue(max.get() <= 16, "max " + max);
+        assertTrue(max.get() > 1, "nu a rulat nimic in paralel");
+    }
+
+    @Test
+    void resultsInIndexOrder() {
+        MyArrayList<Integer> l = listOf(300);
+        MyArrayList<Integer> m = l.mapConcurrent(x -> { sleep(x % 5); return x * 2; }, 32);
+        for (int i = 0; i < 300; i++) assertEquals(i * 2, m.get(i));
+        l.replaceAllConcurrent(x -> { sleep((300 - x) % 3); return -x; }, 8);
+        for (int i = 0; i < 300; i++) assertEquals(-i, l.get(i));
+        assertEquals(List.of("s10", "s11", "s12"), l.subList(10, 13).mapConcurrent(x -> "s" + -x, 2));
+        l.subList(0, 2).replaceAllConcurrent(x -> 7, 2);
+        assertEquals(List.of(7, 7, -2), l.subList(0, 3));
+    }
+
+    @Test
+    void failureCancelsOthersAndLeavesListUnchanged() {
+        MyArrayList<Integer> l = listOf(100);
+        AtomicInteger interrupted = new AtomicInteger();
+        IllegalStateException e = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThrows(IllegalStateException.class, () ->
+            l.replaceAllConcurrent(x -> {
+                if (x == 37) throw new IllegalStateException("boom");
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException ie) {
+                    interrupted.incrementAndGet();
+                    throw new CompletionException(ie);
+                }
+                return x;
+            }, 64)));
+        assertEquals("boom", e.getMessage());
+        assertTrue(interrupted.get() > 0);
+        assertEquals(listOf(100), l);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E extends Throwable> void sneaky(Throwable t) throws E {
+        throw (E) t;
+    }
+
+    @Test
+    void checkedExceptionWrapped() {
+        MyArrayList<Integer> l = listOf(10);
+        CompletionException e = assertThrows(CompletionException.class, () -> l.forEachConcurrent(x -> { if (x == 5) sneaky(new java.io.IOException("io")); }, 4));
+        assertInstanceOf(java.io.IOException.class, e.getCause());
+    }
+
+    @Test
+    void modificationDuringRunThrowsCme() {
+        MyArrayList<Integer> l = listOf(10);
+        assertThrows(ConcurrentModificationException.class, () -> l.forEachConcurrent(x -> { if (x == 3) l.add(1); }, 1));
+    }
+
+    @Test
+    void callerInterruptCancels() throws InterruptedException {
+        MyArrayList<Integer> l = listOf(50);
+        AtomicReference<Throwable> got = new AtomicReference<>();
+        AtomicBoolean flag = new AtomicBoolean();
+        Thread caller = new Thread(() -> {
+            try {
+                l.forEachConcurrent(x -> sleep(60_000), 8);
+            } catch (Throwable t) {
+                got.set(t);
+                flag.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        caller.start();
+        Thread.sleep(100);
+        caller.interrupt();
+        caller.join(5000);
+        assertFalse(caller.isAlive());
+        assertInstanceOf(CancellationException.class, got.get());
+        assertTrue(flag.get(), "flagul de intrerupere trebuie pastrat");
+    }
+
+    @Test
+    void argumentChecks() {
+        MyArrayList<Integer> l = listOf(3);
+        assertThrows(IllegalArgumentException.class, () -> l.forEachConcurrent(x -> {}, 0));
+        new MyArrayList<Integer>().forEachConcurrent(x -> fail(), 3);
+    }
+}
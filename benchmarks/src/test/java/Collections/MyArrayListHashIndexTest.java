@@ -0,0 +1,122 @@
+package Collections;
+import java.lang.reflect.Field;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyArrayListHashIndexTest {
+
+    static boolean indexValid(MyArrayList<?> l) throws ReflectiveOperationException { // starea interna, ca sa vedem ca nu se reconstruieste
+        Field f = MyArrayList.class.getDeclaredField("index");
+        f.setAccessible(true);
+        Object idx = f.get(l);
+        Field v = idx.getClass().getDeclaredField("valid");
+        v.setAccessible(true);
+        return v.getBoolean(idx);
+    }
+
+    static void assertSameLookups(List<Integer> expected, MyArrayList<Integer> l) {
+        assertEquals(expected, l);
+        for (int x = -1; x < 25; x++) {
+            assertEquals(expected.indexOf(x), l.indexOf(x), "indexOf " + x);
+            assertEquals(expected.lastIndexOf(x), l.lastIndexOf(x), "lastIndexOf " + x);
+        }
+    }
+
+    @Test
+    void singleElementEditsKeepIndexInSync() throws ReflectiveOperationException {
+        Random r = new Random(11);
+        MyArrayList<Integer> l = new MyArrayList<>();
+        List<Integer> ref = new ArrayList<>();
+        l.enableHashIndex();
+        l.indexOf(0); // construieste indexul
+        for (int op = 0; op < 3000; op++) {
+            int n = ref.size();
+            Integer v = r.nextInt(20);
+            switch (r.nextInt(7)) {
+                case 0, 1 -> { int i = r.nextInt(n + 1); l.add(i, v); ref.add(i, v); }
+                case 2 -> { l.add(v); ref.add(v); }
+                case 3 -> { if (n > 0) { int i = r.nextInt(n); assertEquals(ref.remove(i), l.remove(i)); } }
+                case 4 -> assertEquals(ref.remove(v), l.remove(v)); // remove(Object)
+                case 5 -> { if (n > 0) { int i = r.nextInt(n); assertEquals(ref.set(i, v), l.set(i, v)); } }
+                case 6 -> { int i = r.nextInt(n + 1); List<Integer> c = Arrays.asList(v, v + 1, null); l.addAll(i, c); ref.addAll(i, c); }
+            }
+            assertTrue(indexValid(l), "indexul s-a invalidat dupa o operatie de un element");
+            if (op % 50 == 0) assertSameLookups(ref, l);
+        }
+        assertSameLookups(ref, l);
+        l.subList(1, 4).add(1, 7); // prin sublista tot pe add(int)
+        ref.subList(1, 4).add(1, 7);
+        assertTrue(indexValid(l));
+        assertSameLookups(ref, l);
+    }
+
+    @Test
+    void bulkEditsRebuildLazily() throws ReflectiveOperationException {
+        MyArrayList<Integer> l = new MyArrayList<>();
+        List<Integer> ref = new ArrayList<>();
+        for (int i = 0; i < 100; i++) { l.add(i % 13); ref.add(i % 13); }
+        l.enableHashIndex();
+        assertSameLookups(ref, l);
+        l.removeIf(x -> x % 3 == 0);
+        ref.removeIf(x -> x % 3 == 0);
+        assertFalse(indexValid(l));
+        assertSameLookups(ref, l);
+        assertTrue(indexValid(l));
+        l.sort(null);
+        ref.sort(null);
+        assertSameLookups(ref, l);
+    }
+
+    @Test
+    void indexInvalidatedWhenOperatorOrComparatorThrows() {
+        MyArrayList<Integer> l = new MyArrayList<>();
+        for (int i = 0; i < 10; i++) l.add(i);
+        l.enableHashIndex();
+        assertEquals(0, l.indexOf(0));
+        assertThrows(IllegalStateException.class, () -> l.replaceAll(x -> { if (x == 5) throw new IllegalStateException(); return x + 100; }));
+        assertEquals(List.of(100, 101, 102, 103, 104, 5, 6, 7, 8, 9), l);
+        assertEquals(0, l.indexOf(100));
+        assertEquals(-1, l.indexOf(0));
+        assertThrows(IllegalStateException.class, () -> l.subList(2, 8).replaceAll(x -> { if (x == 7) throw new IllegalStateException(); return -x; }));
+        assertEquals(2, l.indexOf(-102));
+        assertEquals(-1, l.indexOf(102));
+
+        for (int i = 0; i < 10; i++) l.set(i, (i * 7) % 10); // amestecate; set tine indexul valid
+        int[] calls = {0};
+        assertThrows(IllegalStateException.class, () -> l.sort((a, b) -> { if (++calls[0] == 10) throw new IllegalStateException(); return a - b; }));
+        List<Integer> ref = Arrays.asList(l.toArray(new Integer[0])); // toArray nu trece prin index
+        for (int x = 0; x < 10; x++) assertEquals(ref.indexOf(x), l.indexOf(x), "dupa sort intrerupt " + x);
+    }
+
+    @Test
+    void editsNearTailWithManyDistinctValues() throws ReflectiveOperationException { // se muta doar pozitiile elementelor de dupa index
+        Random r = new Random(111);
+        MyArrayList<Integer> l = new MyArrayList<>();
+        List<Integer> ref = new ArrayList<>();
+        for (int i = 0; i < 500; i++) { l.add(i); ref.add(i); }
+        l.enableHashIndex();
+        l.indexOf(0);
+        for (int op = 0; op < 2000; op++) {
+            int n = ref.size();
+            int i = Math.max(0, n - 1 - r.nextInt(8)); // aproape de coada
+            Integer v = (r.nextBoolean()) ? r.nextInt(1000) : ref.get(r.nextInt(n)); // si duplicate
+            switch (r.nextInt(5)) {
+                case 0 -> { l.add(i, v); ref.add(i, v); }
+                case 1 -> { assertEquals(ref.remove(i), l.remove(i)); }
+                case 2 -> { assertEquals(ref.removeLast(), l.removeLast()); }
+                case 3 -> { l.addAll(i, List.of(v, v)); ref.addAll(i, List.of(v, v)); }
+                case 4 -> { Iterator<Integer> it = l.iterator(); Iterator<Integer> rt = ref.iterator(); for (int k = 0; k < n; k++) { it.next(); rt.next(); } it.remove(); rt.remove(); }
+            }
+            assertTrue(indexValid(l));
+            if (op % 20 == 0) {
+                assertEquals(ref, l);
+                for (int k = 0; k < 30; k++) {
+                    Integer x = ref.get(r.nextInt(ref.size()));
+                    assertEquals(ref.indexOf(x), l.indexOf(x));
+                    assertEquals(ref.lastIndexOf(x), l.lastIndexOf(x));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package Collections;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyArrayListParallelTest {
+
+    static final int N = 50_000; // peste pragul de la care Arrays.parallelSort / RangeTask chiar impart lucrul
+
+    static List<Integer> randomInts(int n, long seed) {
+        Random r = new Random(seed);
+        List<Integer> l = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) l.add(r.nextInt(1000));
+        return l;
+    }
+
+    @Test
+    void parallelSortMatchesSort() {
+        List<Integer> ref = randomInts(N, 1);
+        MyArrayList<Integer> l = new MyArrayList<>(ref);
+        l.parallelSort(null);
+        ref.sort(null);
+        assertEquals(ref, l);
+        l.parallelSort(Comparator.reverseOrder());
+        ref.sort(Comparator.reverseOrder());
+        assertEquals(ref, l);
+    }
+
+    @Test
+    void subListParallelSortTouchesOnlyRange() {
+        List<Integer> ref = randomInts(N, 2);
+        MyArrayList<Integer> l = new MyArrayList<>(ref);
+        l.subList(1000, 40_000).parallelSort(null);
+        ref.subList(1000, 40_000).sort(null);
+        assertEquals(ref, l);
+    }
+
+    @Test
+    void parallelSortStableForEqualKeys() { // Arrays.parallelSort e stabil, ca si sort
+        MyArrayList<int[]> l = new MyArrayList<>();
+        for (int i = 0; i < N; i++) l.add(new int[] {i % 10, i});
+        l.parallelSort(Comparator.comparingInt(p -> p[0]));
+        for (int i = 1; i < N; i++) {
+            int[] a = l.get(i - 1), b = l.get(i);
+            assertTrue(a[0] < b[0] || (a[0] == b[0] && a[1] < b[1]));
+        }
+    }
+
+    @Test
+    void parallelRemoveIfMatchesRemoveIf() {
+        List<Integer> ref = randomInts(N, 3);
+        MyArrayList<Integer> l = new MyArrayList<>(ref);
+        assertEquals(ref.removeIf(x -> x % 3 == 0), l.parallelRemoveIf(x -> x % 3 == 0));
+        assertEquals(ref, l);
+        assertFalse(l.parallelRemoveIf(x -> x < 0));
+        assertEquals(ref, l);
+        l.subList(100, 20_000).parallelRemoveIf(x -> x > 500);
+        ref.subList(100, 20_000).removeIf(x -> x > 500);
+        assertEquals(ref, l);
+    }
+
+    @Test
+    void parallelRemoveIfLeavesListOnException() { // deathRow se umple intai, deci daca filtrul arunca nu s-a sters nimic
+        List<Integer> ref = randomInts(N, 4);
+        MyArrayList<Integer> l = new MyArrayList<>(ref);
+        assertThrows(IllegalStateException.class, () -> l.parallelRemoveIf(x -> { if (x == 999) throw new IllegalStateException(); return x % 2 == 0; }));
+        assertEquals(ref, l);
+    }
+
+    @Test
+    void parallelReplaceAllAndForEach() {
+        List<Integer> ref = randomInts(N, 5);
+        MyArrayList<Integer> l = new MyArrayList<>(ref);
+        l.parallelReplaceAll(x -> x * 2 + 1);
+        ref.replaceAll(x -> x * 2 + 1);
+        assertEquals(ref, l);
+        LongAdder sum = new LongAdder();
+        l.parallelForEach(sum::add);
+        assertEquals(ref.stream().mapToLong(x -> x).sum(), sum.sum());
+        l.subList(10, 30_000).parallelReplaceAll(x -> -x);
+        ref.subList(10, 30_000).replaceAll(x -> -x);
+        assertEquals(ref, l);
+    }
+}
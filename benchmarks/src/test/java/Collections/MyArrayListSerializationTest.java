@@ -0,0 +1,56 @@
+package Collections;
+import java.io.*;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyArrayListSerializationTest {
+
+    @SuppressWarnings("unchecked")
+    static <T> MyArrayList<T> roundTrip(MyArrayList<T> l) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(l);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (MyArrayList<T>) in.readObject();
+        }
+    }
+
+    static <T> MyArrayList<T> codecRoundTrip(MyArrayList<T> l, MyElementCodec<T> codec) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        l.writeTo(new DataOutputStream(bytes), codec);
+        return MyArrayList.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), codec);
+    }
+
+    @Test
+    void javaSerializationKeepsElements() throws Exception {
+        MyArrayList<String> l = new MyArrayList<>();
+        for (int i = 0; i < 100; i++) l.add(i % 7 == 0 ? null : "s" + i);
+        MyArrayList<String> copy = roundTrip(l);
+        assertEquals(l, copy);
+        copy.add("dupa"); // lista citita e utilizabila
+        assertEquals(101, copy.size());
+        assertEquals(new MyArrayList<>(), roundTrip(new MyArrayList<>()));
+    }
+
+    @Test
+    void codecRoundTripWithAndWithoutNulls() throws IOException {
+        MyArrayList<Integer> ints = new MyArrayList<>();
+        for (int i = 0; i < 5000; i++) ints.add(i * 31); // mai mult decat un batch de 8 KB
+        assertEquals(ints, codecRoundTrip(ints, MyElementCodec.INT));
+
+        MyArrayList<String> strings = new MyArrayList<>(Arrays.asList("a", null, "\u0103\u00ee\u0219", "", null, "z"));
+        assertEquals(strings, codecRoundTrip(strings, MyElementCodec.STRING));
+        assertEquals(new MyArrayList<Long>(), codecRoundTrip(new MyArrayList<Long>(), MyElementCodec.LONG));
+    }
+
+    @Test
+    void truncatedStreamFails() throws IOException {
+        MyArrayList<Long> l = new MyArrayList<>(List.of(1L, 2L, 3L));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        l.writeTo(new DataOutputStream(bytes), MyElementCodec.LONG);
+        byte[] cut = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 4);
+        assertThrows(EOFException.class, () -> MyArrayList.readFrom(new DataInputStream(new ByteArrayInputStream(cut)), MyElementCodec.LONG));
+    }
+}
@@ -0,0 +1,75 @@
+package Collections;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyArrayPoolTest {
+
+    @Test
+    void pooledListMatchesArrayList() {
+        MyArrayPool pool = new MyArrayPool(1 << 10, 4, 8);
+        Random r = new Random(21);
+        MyArrayList<Integer> l = new MyArrayList<>(pool);
+        List<Integer> ref = new ArrayList<>();
+        for (int op = 0; op < 5000; op++) {
+            int n = ref.size();
+            switch (r.nextInt(8)) {
+                case 0, 1, 2 -> { l.add(op); ref.add(op); }
+                case 3 -> { int i = r.nextInt(n + 1); l.add(i, op); ref.add(i, op); }
+                case 4 -> { if (n > 0) { int i = r.nextInt(n); assertEquals(ref.remove(i), l.remove(i)); } }
+                case 5 -> { l.addAll(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17)); ref.addAll(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17)); }
+                case 6 -> { l.trimToSize(); }
+                case 7 -> { if (r.nextInt(20) == 0) { l.release(); ref.clear(); } }
+            }
+            assertEquals(ref, l);
+        }
+        assertTrue(pool.hits() > 0, pool.toString());
+    }
+
+    @Test
+    void trimToSizeKeepsPoolClass() {
+        MyArrayPool pool = new MyArrayPool(1 << 10, 4, 8);
+        MyArrayList<Integer> l = new MyArrayList<>(pool);
+        for (int i = 0; i < 100; i++) l.add(i);
+        assertEquals(128, l.elementData.length);
+        for (int i = 0; i < 70; i++) l.removeLast();
+        l.trimToSize(); // 30 elemente -> clasa 32, nu 30
+        assertEquals(32, l.elementData.length);
+        assertEquals(30, l.size());
+        for (int i = 0; i < 30; i++) assertEquals(i, l.get(i));
+        long returned = pool.returned();
+        l.trimToSize(); // deja in cea mai mica clasa: nimic
+        assertEquals(32, l.elementData.length);
+        assertEquals(returned, pool.returned());
+        Object[] a = pool.take(100); // array-ul de 128 dat inapoi la trim
+        assertEquals(128, a.length);
+        assertTrue(Arrays.stream(a).allMatch(Objects::isNull));
+        l.release();
+        assertEquals(0, pool.dropped());
+    }
+
+    @Test
+    void scopeReleasesLists() {
+        MyArrayPool pool = new MyArrayPool(1 << 10, 4, 8);
+        try (MyArrayPool.Scope s = pool.scope()) {
+            MyArrayList<String> a = s.newList();
+            MyArrayList<String> b = s.newList();
+            for (int i = 0; i < 20; i++) { a.add("a" + i); b.add("b" + i); }
+        }
+        long before = pool.hits();
+        assertEquals(32, pool.take(20).length);
+        assertEquals(before + 1, pool.hits());
+    }
+
+    @Test
+    void takeAndGiveSizes() {
+        MyArrayPool pool = new MyArrayPool(1 << 6, 2, 2);
+        assertEquals(16, pool.take(0).length);
+        assertEquals(16, pool.take(16).length);
+        assertEquals(32, pool.take(17).length);
+        assertEquals(1000, pool.take(1000).length); // peste maxLength: exact, nu din pool
+        pool.give(new Object[20]); // nu e clasa
+        assertEquals(1, pool.dropped());
+        assertThrows(IllegalArgumentException.class, () -> new MyArrayPool(100, 1, 1));
+    }
+}
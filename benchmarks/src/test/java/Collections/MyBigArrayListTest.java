@@ -0,0 +1,53 @@
+package Collections;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyBigArrayListTest {
+
+    @Test
+    void matchesArrayListAcrossChunks() {
+        MyBigArrayList<Integer> l = new MyBigArrayList<>(4); // chunk-uri de 16 elemente (minimul), ca sa trecem des granita
+        List<Integer> ref = new ArrayList<>();
+        Random r = new Random(23);
+        for (int op = 0; op < 5000; op++) {
+            int n = ref.size();
+            int v = r.nextInt(40);
+            switch (r.nextInt(8)) {
+                case 0, 1, 2 -> { l.add(v); ref.add(v); }
+                case 3 -> { int i = r.nextInt(n + 1); l.add(i, v); ref.add(i, v); }
+                case 4 -> { if (n > 0) { int i = r.nextInt(n); assertEquals(ref.remove(i), l.remove(i)); } }
+                case 5 -> { if (n > 0) { int i = r.nextInt(n); assertEquals(ref.set(i, v), l.set(i, v)); } }
+                case 6 -> { int f = r.nextInt(n + 1), t = f + r.nextInt(Math.min(20, n - f) + 1); l.removeRange(f, t); ref.subList(f, t).clear(); }
+                case 7 -> assertEquals(ref.removeIf(x -> x == v), l.removeIf(x -> x == v));
+            }
+        }
+        assertEquals(ref.size(), l.sizeAsLong());
+        assertEquals(ref, l);
+        assertEquals(ref.indexOf(5), l.indexOf(5));
+        assertEquals(ref.lastIndexOf(5), l.lastIndexOfLong(5));
+        List<Integer> seen = new ArrayList<>();
+        l.forEach(seen::add);
+        assertEquals(ref, seen);
+        assertEquals(ref, l.stream().toList()); // spliterator pe chunk-uri
+        l.sort(null);
+        Collections.sort(ref);
+        l.trimToSize();
+        assertEquals(ref, l);
+    }
+
+    @Test
+    void bulkAddCopiesIntoChunks() {
+        MyBigArrayList<Integer> l = new MyBigArrayList<>(4);
+        List<Integer> src = new ArrayList<>();
+        for (int i = 0; i < 100; i++) src.add(i);
+        l.add(-1);
+        l.addAll(src);
+        assertEquals(101, l.size());
+        assertEquals(-1, l.getLong(0));
+        assertEquals(99, l.getLong(100));
+        assertEquals(src, l.subList(1, 101));
+        assertEquals(src, new MyBigArrayList<>(src));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.getLong(101));
+    }
+}
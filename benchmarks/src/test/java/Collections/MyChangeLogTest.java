@@ -0,0 +1,97 @@
+package Collections;
+import java.io.*;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyChangeLogTest {
+
+    static void mutate(MyArrayList<Integer> l, Random r, int op) { // toate caile de scriere care trebuie sa ajunga in log
+        int n = l.size();
+        switch (r.nextInt(20)) {
+            case 0, 1, 2 -> l.add(op);
+            case 3 -> l.add(r.nextInt(n + 1), op);
+            case 4 -> { if (n > 0) l.remove(r.nextInt(n)); }
+            case 5 -> { if (n > 0) l.set(r.nextInt(n), -op); }
+            case 6 -> { int f = r.nextInt(n + 1), t = f + r.nextInt(n - f + 1); l.subList(f, t).clear(); }
+            case 7 -> l.addAll(List.of(op, op + 1, op + 2));
+            case 8 -> l.addAll(r.nextInt(n + 1), List.of(op, op + 1));
+            case 9 -> l.removeIf(x -> x % 7 == 3);
+            case 10 -> l.replaceAll(x -> x + 1);
+            case 11 -> { if (r.nextInt(5) == 0) l.sort(null); }
+            case 12 -> l.removeAll(List.of(1, 2, 3, 4, 5));
+            case 13 -> { if (n > 0) { int f = r.nextInt(n); l.subList(f, n).replaceAll(x -> x * 2); } }
+            case 14 -> { if (n > 2) l.removeAt(0, n - 1, n / 2); }
+            case 15 -> { if (n > 0) { int[] idx = {r.nextInt(n + 1), r.nextInt(n + 1)}; Arrays.sort(idx); l.insertAll(idx, new Integer[] {op, op + 1}); } }
+            case 16 -> { ListIterator<Integer> it = l.listIterator(); while (it.hasNext()) { int x = it.next(); if (x % 5 == 0) it.remove(); else if (x % 5 == 1) it.set(x + 10); } }
+            case 17 -> { if (n > 0) l.removeFirst(); }
+            case 18 -> { if (n > 0) l.removeLast(); }
+            case 19 -> { if (n > 0) l.subList(r.nextInt(n), n).sort(Comparator.reverseOrder()); }
+        }
+    }
+
+    static MyChangeLog.Delta serialized(MyChangeLog.Delta d) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(d);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (MyChangeLog.Delta) in.readObject();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void replicaFollowsSourceThroughDeltas() throws Exception {
+        Random r = new Random(6);
+        for (int round = 0; round < 100; round++) {
+            MyArrayList<Integer> src = new MyArrayList<>();
+            for (int i = 0; i < r.nextInt(50); i++) src.add(i);
+            src.enableChangeLog(r.nextBoolean() ? 1 << 20 : 40); // log mic: uneori delta nu mai e disponibila
+            MyArrayList<Integer> rep = (MyArrayList<Integer>) src.clone();
+            assertEquals(src.version(), rep.version());
+            for (int op = 0; op < 300; op++) {
+                mutate(src, r, op);
+                if (r.nextInt(10) == 0) {
+                    MyChangeLog.Delta d = src.deltaSince(rep.version());
+                    if (d == null) {
+                        rep = (MyArrayList<Integer>) src.clone(); // istoria a fost taiata, copiem tot
+                    } else {
+                        rep.applyDelta(r.nextBoolean() ? serialized(d) : d);
+                    }
+                    assertEquals(src, rep);
+                    assertEquals(src.version(), rep.version());
+                }
+            }
+        }
+    }
+
+    @Test
+    void consecutiveOpsAreMerged() {
+        MyArrayList<Integer> s = new MyArrayList<>();
+        s.enableChangeLog();
+        long v0 = s.version();
+        for (int i = 0; i < 100_000; i++) s.add(i);
+        MyChangeLog.Delta d = s.deltaSince(v0);
+        assertEquals(1, d.operations()); // add-urile la coada se unesc intr-o singura operatie
+        assertEquals(100_000, d.toVersion());
+        long v1 = s.version();
+        s.set(5, 1);
+        s.set(6, 1);
+        s.set(7, 1);
+        assertEquals(1, s.deltaSince(v1).operations());
+    }
+
+    @Test
+    void deltaFromOtherVersionIsRejected() {
+        MyArrayList<Integer> s = new MyArrayList<>();
+        s.enableChangeLog();
+        for (int i = 0; i < 10; i++) s.add(i);
+        long v1 = s.version();
+        s.add(99);
+        MyArrayList<Integer> other = new MyArrayList<>();
+        other.enableChangeLog();
+        assertThrows(IllegalStateException.class, () -> other.applyDelta(s.deltaSince(v1)));
+        assertTrue(other.isEmpty());
+    }
+}
@@ -0,0 +1,80 @@
+package Collections;
+import java.time.Duration;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyConcurrentArrayListTest {
+
+    static MyConcurrentArrayList<Integer> listOf(int n) {
+        MyConcurrentArrayList<Integer> l = new MyConcurrentArrayList<>();
+        for (int i = 0; i < n; i++) l.add(i);
+        return l;
+    }
+
+    @Test
+    void removeAllOfOwnSubListDoesNotDeadlock() { // contains pe sublista ar lua readLock sub writeLock
+        MyConcurrentArrayList<Integer> l = listOf(10);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertTrue(l.removeAll(l.subList(0, 2))));
+        assertEquals(List.of(2, 3, 4, 5, 6, 7, 8, 9), l);
+    }
+
+    @Test
+    void retainAllOfItselfDoesNotDeadlock() {
+        MyConcurrentArrayList<Integer> l = listOf(10);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertFalse(l.retainAll(l)));
+        assertEquals(10, l.size());
+    }
+
+    @Test
+    void removeAllOfItselfLarge() { // peste pragul de HashSet
+        MyConcurrentArrayList<Integer> l = listOf(1000);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertTrue(l.removeAll(l)));
+        assertTrue(l.isEmpty());
+    }
+
+    @Test
+    void removeAllAndRetainAllWithOtherCollections() {
+        MyConcurrentArrayList<Integer> l = listOf(100);
+        assertTrue(l.removeAll(List.of(1, 3, 5)));
+        assertTrue(l.retainAll(new HashSet<>(List.of(0, 2, 4, 6, 1000))));
+        assertEquals(List.of(0, 2, 4, 6), l);
+    }
+
+    static final class Poison { // equals arunca mereu
+        public boolean equals(Object o) {
+            throw new IllegalStateException("equals");
+        }
+
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    @Test
+    void equalsExceptionPropagatesFromIndexOf() { // fara scrieri, citirea optimista e valida si exceptia e a utilizatorului
+        MyConcurrentArrayList<Object> l = new MyConcurrentArrayList<>();
+        l.add("a");
+        assertThrows(IllegalStateException.class, () -> l.indexOf(new Poison()));
+        assertThrows(IllegalStateException.class, () -> l.lastIndexOf(new Poison()));
+    }
+
+    @Test
+    void indexOfUnderConcurrentWrites() throws Exception {
+        MyConcurrentArrayList<Integer> l = listOf(1000);
+        Thread writer = new Thread(() -> {
+            for (int k = 0; k < 20000; k++) {
+                l.add(0, -1);
+                l.remove(0);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            int i = l.lastIndexOf(998); // 998 sau 999, dupa cum -1 e sau nu la inceput
+            assertTrue(i == 998 || i == 999, "lastIndexOf " + i);
+            assertTrue(l.contains(500));
+        }
+        writer.join();
+        assertEquals(listOf(1000), l);
+    }
+}
@@ -0,0 +1,86 @@
+package Collections;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyCopyOnWriteArrayListTest {
+
+    static MyCopyOnWriteArrayList<Integer> listOf(int n) {
+        MyCopyOnWriteArrayList<Integer> l = new MyCopyOnWriteArrayList<>();
+        for (int i = 0; i < n; i++) l.add(i);
+        return l;
+    }
+
+    @Test
+    void writeToListFromInsideBatchIsRejected() {
+        MyCopyOnWriteArrayList<Integer> l = listOf(5);
+        assertThrows(IllegalStateException.class, () -> l.mutate(w -> {
+            w.add(100);
+            l.set(0, -1); // ar fi suprascris de publicarea lui w
+        }));
+        assertEquals(List.of(0, 1, 2, 3, 4), l); // batch-ul a aruncat, nimic publicat
+        assertThrows(IllegalStateException.class, () -> l.mutate(w -> l.mutate(x -> x.add(1))));
+        assertThrows(IllegalStateException.class, () -> l.removeIf(x -> l.add(x)));
+        assertThrows(IllegalStateException.class, () -> l.replaceAll(x -> { l.clear(); return x; }));
+        assertEquals(List.of(0, 1, 2, 3, 4), l);
+    }
+
+    @Test
+    void batchCanReadListAndWriteItsCopy() {
+        MyCopyOnWriteArrayList<Integer> l = listOf(5);
+        l.mutate(w -> {
+            w.add(l.size()); // citirea din lista e permisa
+            w.remove(0);
+        });
+        assertEquals(List.of(1, 2, 3, 4, 5), l);
+        l.add(6); // dupa batch lista se poate scrie normal
+        assertEquals(6, l.size());
+    }
+
+    @Test
+    void removeFirstAndRemoveLast() {
+        MyCopyOnWriteArrayList<Integer> l = new MyCopyOnWriteArrayList<>(List.of(1, 2, 3));
+        assertEquals(1, l.removeFirst());
+        assertEquals(3, l.removeLast());
+        assertEquals(List.of(2), l);
+        assertEquals(2, l.removeLast());
+        assertThrows(NoSuchElementException.class, l::removeFirst);
+        assertThrows(NoSuchElementException.class, l::removeLast);
+    }
+
+    @Test
+    void randomWritesMatchArrayList() { // toate scrierile publice, fata de ArrayList
+        Random r = new Random(14);
+        MyCopyOnWriteArrayList<Integer> l = new MyCopyOnWriteArrayList<>();
+        List<Integer> ref = new ArrayList<>();
+        for (int op = 0; op < 4000; op++) {
+            int n = ref.size();
+            Integer v = r.nextInt(30);
+            switch (r.nextInt(18)) {
+                case 0, 1 -> { l.add(v); ref.add(v); }
+                case 2 -> { int i = r.nextInt(n + 1); l.add(i, v); ref.add(i, v); }
+                case 3 -> { if (n > 0) { int i = r.nextInt(n); assertEquals(ref.set(i, v), l.set(i, v)); } }
+                case 4 -> { if (n > 0) { int i = r.nextInt(n); assertEquals(ref.remove(i), l.remove(i)); } }
+                case 5 -> { if (n > 0) assertEquals(ref.removeFirst(), l.removeFirst()); }
+                case 6 -> { if (n > 0) assertEquals(ref.removeLast(), l.removeLast()); }
+                case 7 -> assertEquals(ref.remove(v), l.remove(v));
+                case 8 -> { l.addFirst(v); ref.addFirst(v); }
+                case 9 -> { boolean absent = !ref.contains(v); if (absent) ref.add(v); assertEquals(absent, l.addIfAbsent(v)); }
+                case 10 -> { List<Integer> c = List.of(v, v + 1); l.addAll(c); ref.addAll(c); }
+                case 11 -> { int i = r.nextInt(n + 1); List<Integer> c = List.of(v, v); l.addAll(i, c); ref.addAll(i, c); }
+                case 12 -> { int f = r.nextInt(n + 1), t = f + r.nextInt(n - f + 1); l.subList(f, t).clear(); ref.subList(f, t).clear(); }
+                case 13 -> assertEquals(ref.removeIf(x -> x % 7 == v % 7), l.removeIf(x -> x % 7 == v % 7));
+                case 14 -> { l.replaceAll(x -> x + 1); ref.replaceAll(x -> x + 1); }
+                case 15 -> { if (r.nextInt(4) == 0) { l.sort(null); ref.sort(null); } }
+                case 16 -> assertEquals(ref.removeAll(List.of(v)), l.removeAll(List.of(v)));
+                case 17 -> { if (n > 40) { List<Integer> keep = List.copyOf(ref.subList(0, n / 2)); assertEquals(ref.retainAll(keep), l.retainAll(keep)); } }
+            }
+            assertEquals(ref, l);
+        }
+        ListIterator<Integer> it = l.listIterator();
+        List<Integer> seen = new ArrayList<>();
+        it.forEachRemaining(seen::add);
+        assertEquals(ref, seen);
+        assertThrows(UnsupportedOperationException.class, () -> l.iterator().remove());
+    }
+}
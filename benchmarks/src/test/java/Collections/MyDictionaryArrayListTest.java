@@ -0,0 +1,63 @@
+package Collections;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyDictionaryArrayListTest {
+
+    @Test
+    void matchesArrayListWithFewValues() {
+        Random r = new Random(23);
+        MyDictionaryArrayList<String> l = new MyDictionaryArrayList<>();
+        List<String> ref = new ArrayList<>();
+        for (int op = 0; op < 5000; op++) {
+            int n = ref.size();
+            String v = r.nextInt(20) == 0 ? null : "s" + r.nextInt(12);
+            switch (r.nextInt(7)) {
+                case 0, 1 -> { l.add(v); ref.add(v); }
+                case 2 -> { int i = r.nextInt(n + 1); l.add(i, v); ref.add(i, v); }
+                case 3 -> { if (n > 0) { int i = r.nextInt(n); assertEquals(ref.set(i, v), l.set(i, v)); } }
+                case 4 -> { if (n > 0) { int i = r.nextInt(n); assertEquals(ref.remove(i), l.remove(i)); } }
+                case 5 -> { String w = v; assertEquals(ref.removeIf(x -> Objects.equals(x, w)), l.removeIf(x -> Objects.equals(x, w))); }
+                case 6 -> assertEquals(Collections.frequency(ref, v), l.count(v));
+            }
+        }
+        assertEquals(ref, l);
+        for (int k = 0; k < 12; k++) {
+            assertEquals(ref.indexOf("s" + k), l.indexOf("s" + k));
+            assertEquals(ref.lastIndexOf("s" + k), l.lastIndexOf("s" + k));
+        }
+        assertEquals(ref.indexOf(null), l.indexOf(null));
+        assertEquals(-1, l.indexOf("nu exista"));
+        assertEquals(1, l.codeWidth());
+        assertEquals(ref, l.clone());
+    }
+
+    @Test
+    void codesWidenAndCompactNarrows() {
+        MyDictionaryArrayList<Integer> l = new MyDictionaryArrayList<>();
+        List<Integer> ref = new ArrayList<>();
+        for (int i = 0; i < 70_000; i++) { l.add(i); ref.add(i); } // trece de 256 si de 65536 valori distincte
+        assertEquals(4, l.codeWidth());
+        assertEquals(ref, l);
+        l.removeIf(x -> x >= 200);
+        ref.removeIf(x -> x >= 200);
+        assertEquals(70_000, l.cardinality()); // remove nu scoate din dictionar
+        l.compact();
+        assertEquals(200, l.cardinality());
+        assertEquals(1, l.codeWidth());
+        assertEquals(ref, l);
+        l.add(5);
+        assertEquals(200, l.cardinality()); // valoare deja cunoscuta
+        assertEquals(5, l.indexOf(5));
+    }
+
+    @Test
+    void removeIfLeavesListOnException() { // verdictele se calculeaza inainte sa schimbam ceva
+        MyDictionaryArrayList<String> l = new MyDictionaryArrayList<>(List.of("a", "b", "a", "c"));
+        assertThrows(IllegalStateException.class, () -> l.removeIf(x -> { if (x.equals("c")) throw new IllegalStateException(); return true; }));
+        assertEquals(List.of("a", "b", "a", "c"), l);
+        assertTrue(l.retainAll(Set.of("a")));
+        assertEquals(List.of("a", "a"), l);
+    }
+}
@@ -0,0 +1,92 @@
+package Collections;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyListViewTest {
+
+    static MyArrayList<Integer> listOf(int n) {
+        MyArrayList<Integer> l = new MyArrayList<>();
+        for (int i = 0; i < n; i++) l.add(i);
+        return l;
+    }
+
+    @Test
+    void sliceFollowsShrinkingList() {
+        MyArrayList<Integer> l = listOf(10);
+        MyListView<Integer> s = l.slice(0, 10, 2);
+        assertEquals(List.of(0, 2, 4, 6, 8), s);
+        l.remove(9);
+        l.remove(8);
+        l.remove(7);
+        assertEquals(4, s.size());
+        assertEquals("[0, 2, 4, 6]", s.toString());
+        assertEquals(List.of(0, 2, 4, 6), s.toList());
+        assertArrayEquals(new Object[] {0, 2, 4, 6}, s.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> s.get(4));
+        l.clear();
+        assertTrue(s.isEmpty());
+        l.addAll(listOf(20));
+        assertEquals(List.of(0, 2, 4, 6, 8), s); // toIndex ramane 10
+    }
+
+    @Test
+    void sliceOverFilteredViewFollowsHitCount() {
+        MyArrayList<Integer> l = listOf(20);
+        MyListView<Integer> s = l.filteredView(x -> x % 2 == 0).slice(1, 8, 3);
+        assertEquals(List.of(2, 8, 14), s);
+        l.removeIf(x -> x >= 10);
+        assertEquals(List.of(2, 8), s);
+        assertEquals(List.of(2, 8), s.toList());
+    }
+
+    @Test
+    void sliceForEachDetectsModification() {
+        MyArrayList<Integer> l = listOf(10);
+        MyListView<Integer> s = l.slice(0, 10, 1);
+        assertThrows(ConcurrentModificationException.class, () -> s.forEach(x -> { if (x == 3) l.add(0); }));
+    }
+
+    @Test
+    void filteredViewSeesSet() { // set nu schimba modCount, dar schimba ce trece de filtru
+        MyArrayList<Integer> l = new MyArrayList<>(List.of(1, 2, 3, 4));
+        MyListView<Integer> f = l.filteredView(x -> x > 2);
+        assertEquals(List.of(3, 4), f);
+        l.set(0, 10);
+        l.set(3, 0);
+        assertEquals(2, f.size());
+        assertEquals(List.of(10, 3), f);
+        assertEquals(List.of(10, 3), Arrays.asList(f.toArray()));
+        l.subList(1, 3).set(0, 20); // prin sublista
+        assertEquals(List.of(10, 20, 3), f);
+        ListIterator<Integer> it = l.listIterator();
+        it.next();
+        it.set(-1); // prin iterator
+        assertEquals(List.of(20, 3), f);
+        l.subList(0, 4).replaceAll(x -> x + 5); // replaceAll pe sublista nu schimba modCount
+        assertEquals(List.of(4, 25, 8, 5), l);
+        assertEquals(List.of(4, 25, 8, 5), f);
+    }
+
+    @Test
+    void chainedViewsMatchStreams() { // fata de acelasi lant facut cu stream pe ArrayList
+        Random r = new Random(20);
+        MyArrayList<Integer> l = new MyArrayList<>();
+        List<Integer> ref = new ArrayList<>();
+        for (int i = 0; i < 300; i++) { int v = r.nextInt(1000); l.add(v); ref.add(v); }
+        MyListView<String> v = l.filteredView(x -> x % 3 != 0).mappedView(x -> "#" + x).slice(5, 150, 4);
+        for (int round = 0; round < 50; round++) {
+            List<String> all = ref.stream().filter(x -> x % 3 != 0).map(x -> "#" + x).toList();
+            List<String> exp = new ArrayList<>();
+            for (int i = 5; i < Math.min(150, all.size()); i += 4) exp.add(all.get(i));
+            assertEquals(exp, v);
+            assertEquals(exp, v.toList());
+            int i = r.nextInt(ref.size());
+            switch (r.nextInt(3)) {
+                case 0 -> { int x = r.nextInt(1000); l.set(i, x); ref.set(i, x); }
+                case 1 -> { l.remove(i); ref.remove(i); }
+                case 2 -> { int x = r.nextInt(1000); l.add(i, x); ref.add(i, x); }
+            }
+        }
+    }
+}
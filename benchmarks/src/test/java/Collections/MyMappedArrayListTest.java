@@ -0,0 +1,69 @@
+package Collections;
+import java.nio.file.Path;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyMappedArrayListTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void matchesArrayListAndSurvivesReopen() throws Exception {
+        Path file = dir.resolve("list.bin");
+        Random r = new Random(7);
+        List<Long> ref = new ArrayList<>();
+        try (MyMappedArrayList<Long> l = MyMappedArrayList.open(file, MyFixedCodec.LONG)) {
+            for (int op = 0; op < 3000; op++) {
+                int n = ref.size();
+                long v = r.nextLong();
+                switch (r.nextInt(6)) {
+                    case 0, 1 -> { l.add(v); ref.add(v); }
+                    case 2 -> { int i = r.nextInt(n + 1); l.add(i, v); ref.add(i, v); }
+                    case 3 -> { if (n > 0) { int i = r.nextInt(n); assertEquals(ref.set(i, v), l.set(i, v)); } }
+                    case 4 -> { if (n > 0) { int i = r.nextInt(n); assertEquals(ref.remove(i), l.remove(i)); } }
+                    case 5 -> { int f = r.nextInt(n + 1), t = f + r.nextInt(Math.min(5, n - f) + 1); l.subList(f, t).clear(); ref.subList(f, t).clear(); }
+                }
+            }
+            assertEquals(ref, l);
+            if (!ref.isEmpty()) assertEquals(ref.indexOf(ref.get(ref.size() / 2)), l.indexOf(ref.get(ref.size() / 2)));
+        }
+        try (MyMappedArrayList<Long> l = MyMappedArrayList.open(file, MyFixedCodec.LONG)) {
+            assertEquals(ref, l);
+            l.trimToSize();
+            assertEquals(ref, l);
+        }
+        assertThrows(java.io.IOException.class, () -> MyMappedArrayList.open(file, MyFixedCodec.INT)); // alt codec
+    }
+
+    @Test
+    void closedListThrowsIllegalState() throws Exception {
+        MyMappedArrayList<Integer> l = MyMappedArrayList.open(dir.resolve("c.bin"), MyFixedCodec.INT);
+        l.add(1);
+        l.add(2);
+        l.close();
+        assertThrows(IllegalStateException.class, () -> l.get(0));
+        assertThrows(IllegalStateException.class, () -> l.set(0, 5));
+        assertThrows(IllegalStateException.class, () -> l.remove(0));
+        assertThrows(IllegalStateException.class, () -> l.removeRange(0, 1));
+        assertThrows(IllegalStateException.class, () -> l.indexOf(1));
+        assertThrows(IllegalStateException.class, () -> l.lastIndexOf(1));
+        assertThrows(IllegalStateException.class, () -> l.add(3));
+        l.close(); // a doua oara nu face nimic
+    }
+
+    @Test
+    void removeRangeChecksBounds() throws Exception {
+        try (MyMappedArrayList<Integer> l = MyMappedArrayList.open(dir.resolve("r.bin"), MyFixedCodec.INT)) {
+            for (int i = 0; i < 5; i++) l.add(i);
+            assertThrows(IndexOutOfBoundsException.class, () -> l.removeRange(-1, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> l.removeRange(2, 6));
+            assertThrows(IndexOutOfBoundsException.class, () -> l.removeRange(3, 2));
+            assertEquals(List.of(0, 1, 2, 3, 4), l);
+            l.removeRange(1, 3);
+            assertEquals(List.of(0, 3, 4), l);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package Collections;
+import java.util.*;
+import java.util.concurrent.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyOffHeapArrayListTest {
+
+    @Test
+    void matchesArrayList() {
+        Random r = new Random(11);
+        List<Integer> ref = new ArrayList<>();
+        try (MyOffHeapArrayList<Integer> l = new MyOffHeapArrayList<>(MyFixedCodec.INT)) {
+            for (int op = 0; op < 5000; op++) {
+                int n = ref.size();
+                int v = r.nextInt(50);
+                switch (r.nextInt(7)) {
+                    case 0, 1 -> { l.add(v); ref.add(v); }
+                    case 2 -> { int i = r.nextInt(n + 1); l.add(i, v); ref.add(i, v); }
+                    case 3 -> { if (n > 0) { int i = r.nextInt(n); assertEquals(ref.set(i, v), l.set(i, v)); } }
+                    case 4 -> { if (n > 0) { int i = r.nextInt(n); assertEquals(ref.remove(i), l.remove(i)); } }
+                    case 5 -> { int f = r.nextInt(n + 1), t = f + r.nextInt(Math.min(5, n - f) + 1); l.subList(f, t).clear(); ref.subList(f, t).clear(); }
+                    case 6 -> { assertEquals(ref.removeIf(x -> x == v), l.removeIf(x -> x == v)); }
+                }
+            }
+            assertEquals(ref, l);
+            assertEquals(ref.indexOf(7), l.indexOf(7));
+            assertEquals(ref.lastIndexOf(7), l.lastIndexOf(7));
+            l.trimToSize();
+            assertEquals(ref.size() * 4L, l.byteSize());
+            assertEquals(ref, l);
+        }
+    }
+
+    @Test
+    void closeReleasesMemory() {
+        MyOffHeapArrayList<Long> l = new MyOffHeapArrayList<>(MyFixedCodec.LONG, 100);
+        l.add(1L);
+        l.close();
+        assertEquals(0, l.byteSize());
+        assertThrows(IllegalStateException.class, () -> l.add(2L));
+        l.close(); // a doua oara nu face nimic
+    }
+
+    @Test
+    void segmentBelongsToGrowingThread() throws Exception { // arena confined: alt thread nu poate citi
+        try (MyOffHeapArrayList<Integer> l = new MyOffHeapArrayList<>(MyFixedCodec.INT)) {
+            l.add(1);
+            ExecutorService ex = Executors.newSingleThreadExecutor();
+            try {
+                ExecutionException e = assertThrows(ExecutionException.class, () -> ex.submit(() -> l.get(0)).get());
+                assertInstanceOf(WrongThreadException.class, e.getCause());
+            } finally {
+                ex.shutdown();
+            }
+            assertEquals(1, l.get(0));
+        }
+    }
+}
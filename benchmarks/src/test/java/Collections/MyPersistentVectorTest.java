@@ -0,0 +1,64 @@
+package Collections;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyPersistentVectorTest {
+
+    @Test
+    void oldVersionsStayUnchanged() {
+        Random r = new Random(3);
+        List<MyPersistentVector<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> models = new ArrayList<>();
+        MyPersistentVector<Integer> v = MyPersistentVector.empty();
+        List<Integer> m = new ArrayList<>();
+        for (int k = 0; k < 40_000; k++) { // destul ca arborele sa aiba mai multe niveluri
+            int op = r.nextInt(10);
+            if (op < 6) { int x = r.nextInt(); v = v.append(x); m.add(x); }
+            else if (op < 9 && !m.isEmpty()) { int i = r.nextInt(m.size()), x = r.nextInt(); v = v.with(i, x); m.set(i, x); }
+            else if (!m.isEmpty()) { v = v.pop(); m.removeLast(); }
+            if (r.nextInt(500) == 0) { versions.add(v); models.add(new ArrayList<>(m)); }
+        }
+        assertEquals(m, v);
+        assertArrayEquals(m.toArray(), v.toArray());
+        List<Integer> seen = new ArrayList<>();
+        v.forEach(seen::add);
+        assertEquals(m, seen);
+        for (int i = 0; i < versions.size(); i++) assertEquals(models.get(i), versions.get(i));
+    }
+
+    @Test
+    void builderMatchesPersistentOps() {
+        MyPersistentVector<Integer> base = MyPersistentVector.from(List.of(1, 2, 3));
+        MyPersistentVector.Builder<Integer> b = base.asTransient();
+        List<Integer> m = new ArrayList<>(base);
+        for (int i = 0; i < 5000; i++) { b.add(i); m.add(i); }
+        for (int i = 0; i < m.size(); i += 7) { b.set(i, -i); m.set(i, -i); }
+        for (int i = 0; i < 100; i++) { b.pop(); m.removeLast(); }
+        assertEquals(m.size(), b.size());
+        MyPersistentVector<Integer> v = b.persistent();
+        assertEquals(m, v);
+        assertEquals(List.of(1, 2, 3), base); // vectorul de pornire nu s-a schimbat
+        assertThrows(IllegalStateException.class, () -> b.add(1)); // builder-ul e inchis dupa persistent()
+    }
+
+    @Test
+    void toPersistentIsSnapshot() { // MyArrayList.toPersistent imparte array-ul; orice scriere ulterioara trebuie sa copieze
+        MyArrayList<Integer> l = new MyArrayList<>();
+        for (int i = 0; i < 5000; i++) l.add(i);
+        List<Integer> snap = new ArrayList<>(l);
+        MyPersistentVector<Integer> p = l.toPersistent();
+        l.set(3, -1);
+        l.subList(10, 20).clear();
+        l.replaceAll(x -> -x);
+        l.sort(null);
+        assertEquals(snap, p);
+        p = l.toPersistent();
+        snap = new ArrayList<>(l);
+        l.parallelRemoveIf(x -> x % 2 == 0);
+        l.add(0, 7);
+        assertEquals(snap, p);
+        assertEquals(snap.size() + 1, p.append(1).size());
+        assertThrows(UnsupportedOperationException.class, () -> MyPersistentVector.of(1).add(2)); // List e doar pentru citire
+    }
+}
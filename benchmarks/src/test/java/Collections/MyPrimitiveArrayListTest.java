@@ -0,0 +1,80 @@
+package Collections;
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyPrimitiveArrayListTest {
+
+    static List<Integer> boxed(MyIntArrayList l) {
+        return l.stream().boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    void intListMatchesArrayList() {
+        Random r = new Random(3);
+        MyIntArrayList l = new MyIntArrayList();
+        List<Integer> ref = new ArrayList<>();
+        for (int op = 0; op < 5000; op++) {
+            int n = ref.size();
+            int v = r.nextInt(100) - 50;
+            switch (r.nextInt(8)) {
+                case 0, 1 -> { l.add(v); ref.add(v); }
+                case 2 -> { int i = r.nextInt(n + 1); l.add(i, v); ref.add(i, v); }
+                case 3 -> { if (n > 0) { int i = r.nextInt(n); assertEquals((int) ref.set(i, v), l.set(i, v)); } }
+                case 4 -> { if (n > 0) { int i = r.nextInt(n); assertEquals((int) ref.remove(i), l.remove(i)); } }
+                case 5 -> assertEquals(ref.remove((Integer) v), l.removeValue(v));
+                case 6 -> { int i = r.nextInt(n + 1); l.addAll(i, new int[] {v, v + 1}); ref.addAll(i, List.of(v, v + 1)); }
+                case 7 -> assertEquals(ref.removeIf(x -> x == v), l.removeIf(x -> x == v));
+            }
+        }
+        assertEquals(ref, boxed(l));
+        assertEquals(ref.hashCode(), l.hashCode()); // hashCode ca la List<Integer>
+        for (int v = -51; v <= 51; v++) { // indexOf/contains sunt vectorizate, comparam pe toate valorile
+            assertEquals(ref.indexOf(v), l.indexOf(v));
+            assertEquals(ref.lastIndexOf(v), l.lastIndexOf(v));
+            assertEquals(ref.contains(v), l.contains(v));
+        }
+        assertEquals(Collections.min(ref), l.min());
+        assertEquals(Collections.max(ref), l.max());
+        assertEquals(ref.stream().mapToLong(x -> x).sum(), l.sum());
+        l.sort();
+        Collections.sort(ref);
+        assertEquals(ref, boxed(l));
+        assertEquals(l, l.clone());
+    }
+
+    @Test
+    void intSubListWritesThrough() {
+        MyIntArrayList l = new MyIntArrayList();
+        List<Integer> ref = new ArrayList<>();
+        for (int i = 0; i < 100; i++) { l.add(99 - i); ref.add(99 - i); }
+        MyIntArrayList.SubList s = l.subList(10, 60);
+        s.removeIf(x -> x % 3 == 0);
+        ref.subList(10, 60).removeIf(x -> x % 3 == 0);
+        s.sort();
+        Collections.sort(ref.subList(10, 10 + s.size()));
+        assertEquals(ref, boxed(l));
+        assertEquals(ref.subList(10, 10 + s.size()), s.stream().boxed().toList());
+    }
+
+    @Test
+    void longAndDoubleReductions() {
+        Random r = new Random(5);
+        long[] longs = r.longs(1000, -1_000_000, 1_000_000).toArray();
+        MyLongArrayList ll = MyLongArrayList.of(longs);
+        assertEquals(LongStream.of(longs).sum(), ll.sum());
+        assertEquals(LongStream.of(longs).min().getAsLong(), ll.min());
+        assertEquals(LongStream.of(longs).max().getAsLong(), ll.max());
+        List<Long> ref = LongStream.of(longs).boxed().toList();
+        assertEquals(ref.hashCode(), ll.hashCode());
+        assertEquals(ref.indexOf(longs[500]), ll.indexOf(longs[500]));
+        assertEquals(-1, ll.indexOf(2_000_000L));
+
+        MyDoubleArrayList d = MyDoubleArrayList.of(3, Double.NaN, 1, -0.0, 0.0);
+        assertEquals(List.of(3.0, Double.NaN, 1.0, -0.0, 0.0).hashCode(), d.hashCode());
+        assertEquals(1, d.indexOf(Double.NaN)); // ca Double.equals, NaN se gaseste
+        d.sort();
+        assertEquals(List.of(-0.0, 0.0, 1.0, 3.0, Double.NaN), d.stream().boxed().toList());
+    }
+}
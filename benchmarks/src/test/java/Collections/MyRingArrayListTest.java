@@ -0,0 +1,51 @@
+package Collections;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyRingArrayListTest {
+
+    @Test
+    void matchesArrayListAtBothEnds() { // operatiile de coada la ambele capete, cu head care trece peste sfarsitul array-ului
+        MyRingArrayList<Integer> l = new MyRingArrayList<>(4);
+        ArrayList<Integer> ref = new ArrayList<>();
+        Random r = new Random(17);
+        for (int op = 0; op < 5000; op++) {
+            int n = ref.size();
+            int v = r.nextInt(40);
+            switch (r.nextInt(10)) {
+                case 0, 1 -> { l.addLast(v); ref.addLast(v); }
+                case 2, 3 -> { l.addFirst(v); ref.addFirst(v); }
+                case 4 -> { if (n > 0) assertEquals(ref.removeFirst(), l.removeFirst()); }
+                case 5 -> { if (n > 0) assertEquals(ref.removeLast(), l.removeLast()); }
+                case 6 -> { int i = r.nextInt(n + 1); l.add(i, v); ref.add(i, v); }
+                case 7 -> { if (n > 0) { int i = r.nextInt(n); assertEquals(ref.remove(i), l.remove(i)); } }
+                case 8 -> { int i = r.nextInt(n + 1); l.addAll(i, List.of(v, v, v)); ref.addAll(i, List.of(v, v, v)); }
+                case 9 -> assertEquals(ref.removeIf(x -> x == v), l.removeIf(x -> x == v));
+            }
+        }
+        assertEquals(ref, l);
+        assertEquals(ref.indexOf(7), l.indexOf(7));
+        assertEquals(ref.lastIndexOf(7), l.lastIndexOf(7));
+        assertArrayEquals(ref.toArray(), l.toArray());
+        assertEquals(ref, l.clone());
+    }
+
+    @Test
+    void sortAndTrimOnWrappedBuffer() {
+        MyRingArrayList<Integer> l = new MyRingArrayList<>(8);
+        for (int i = 0; i < 5; i++) l.addLast(i);
+        for (int i = 0; i < 3; i++) l.addFirst(10 + i); // head a trecut peste inceput
+        List<Integer> ref = new ArrayList<>(l);
+        l.sort(Comparator.reverseOrder());
+        ref.sort(Comparator.reverseOrder());
+        assertEquals(ref, l);
+        l.replaceAll(x -> x * 2);
+        ref.replaceAll(x -> x * 2);
+        l.trimToSize();
+        assertEquals(ref, l);
+        l.addFirst(-1);
+        assertEquals(-1, l.getFirst());
+        assertEquals(ref.getLast(), l.getLast());
+    }
+}
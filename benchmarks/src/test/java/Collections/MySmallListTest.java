@@ -0,0 +1,65 @@
+package Collections;
+import java.io.*;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MySmallListTest {
+
+    @Test
+    void matchesArrayListAroundInlineLimit() { // lista trece des peste INLINE si inapoi
+        Random r = new Random(22);
+        MySmallList<Integer> l = new MySmallList<>();
+        List<Integer> ref = new ArrayList<>();
+        for (int op = 0; op < 20_000; op++) {
+            int n = ref.size();
+            Integer v = r.nextInt(10) == 0 ? null : r.nextInt(8);
+            int kind = n > 6 ? 3 + r.nextInt(3) : r.nextInt(6); // tinem lista mica
+            switch (kind) {
+                case 0, 1 -> { int i = r.nextInt(n + 1); l.add(i, v); ref.add(i, v); }
+                case 2 -> { l.add(v); ref.add(v); }
+                case 3 -> { if (n > 0) { int i = r.nextInt(n); assertEquals(ref.remove(i), l.remove(i)); } }
+                case 4 -> { if (n > 0) { int i = r.nextInt(n); assertEquals(ref.set(i, v), l.set(i, v)); } }
+                case 5 -> assertEquals(ref.remove(v), l.remove(v));
+            }
+            assertEquals(ref.size(), l.size());
+            assertEquals(ref.indexOf(v), l.indexOf(v));
+            assertEquals(ref.lastIndexOf(v), l.lastIndexOf(v));
+        }
+        assertEquals(ref, l);
+        assertEquals(ref.hashCode(), l.hashCode());
+    }
+
+    @Test
+    void arrayElementIsNotMistakenForStorage() { // e0 tine si array-ul intern, dar doar cand size > INLINE
+        Object[] inner = {1, 2, 3, 4, 5};
+        MySmallList<Object> l = new MySmallList<>();
+        l.add(inner);
+        assertEquals(1, l.size());
+        assertSame(inner, l.get(0));
+        for (int i = 0; i < 4; i++) l.add(i);
+        l.subList(1, 5).clear();
+        assertSame(inner, l.get(0));
+        assertArrayEquals(new Object[] {inner}, l.toArray());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void serializationAndCloneRoundTrip() throws Exception {
+        for (int n : new int[] {0, 2, 3, 4, 20}) {
+            MySmallList<String> l = new MySmallList<>();
+            for (int i = 0; i < n; i++) l.add(i == 1 ? null : "v" + i);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(l);
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                assertEquals(l, (MySmallList<String>) in.readObject());
+            }
+            MySmallList<String> c = l.clone();
+            c.add("nou");
+            assertEquals(n, l.size()); // clona nu imparte array-ul
+            assertEquals(n + 1, c.size());
+        }
+    }
+}
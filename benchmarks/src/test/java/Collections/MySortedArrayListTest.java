@@ -0,0 +1,65 @@
+package Collections;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MySortedArrayListTest {
+
+    @Test
+    void naturalOrderingRejectsNull() {
+        MySortedArrayList<Integer> l = new MySortedArrayList<>();
+        assertThrows(NullPointerException.class, () -> l.add(null));
+        assertThrows(NullPointerException.class, () -> l.addAll(Collections.singletonList(null)));
+        assertThrows(NullPointerException.class, () -> l.addAll(Arrays.asList(1, null)));
+        assertThrows(NullPointerException.class, () -> new MySortedArrayList<Integer>(Collections.singletonList(null)));
+        assertTrue(l.isEmpty());
+        l.add(2); // lista a ramas utilizabila
+        l.add(1);
+        assertEquals(List.of(1, 2), l);
+        assertEquals(1, l.indexOf(2));
+    }
+
+    @Test
+    void comparatorMayAcceptNull() {
+        MySortedArrayList<Integer> l = new MySortedArrayList<>(Comparator.nullsFirst(Comparator.<Integer>naturalOrder()));
+        l.add(3);
+        l.add(null);
+        l.addAll(Arrays.asList(1, null));
+        assertEquals(Arrays.asList(null, null, 1, 3), l);
+        assertEquals(0, l.indexOf(null));
+    }
+
+    @Test
+    void removeAllKeepsContainsOfArgument() { // removeAll(c) trebuie sa intrebe c.contains, chiar si cand c e mare si are comparator
+        for (int n : new int[] {10, 40}) {
+            MySortedArrayList<String> ci = new MySortedArrayList<>(String.CASE_INSENSITIVE_ORDER);
+            List<String> upper = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                ci.add("k" + i);
+                upper.add("K" + i);
+            }
+            upper.add("other");
+            List<String> expected = List.of("other");
+
+            MyArrayList<String> a = new MyArrayList<>(upper);
+            a.removeAll(ci);
+            assertEquals(expected, a);
+
+            MySortedArrayList<String> s = new MySortedArrayList<>(upper);
+            s.removeAll(ci);
+            assertEquals(expected, s);
+
+            MyCopyOnWriteArrayList<String> cow = new MyCopyOnWriteArrayList<>(upper);
+            cow.removeAll(ci);
+            assertEquals(expected, cow);
+
+            MyConcurrentArrayList<String> conc = new MyConcurrentArrayList<>(upper);
+            conc.retainAll(ci);
+            assertEquals(upper.subList(0, n), conc);
+
+            MyArrayList<String> plain = new MyArrayList<>(upper); // aici c e o lista simpla, HashSet-ul nu schimba nimic
+            plain.removeAll(new ArrayList<>(upper.subList(0, n)));
+            assertEquals(expected, plain);
+        }
+    }
+}